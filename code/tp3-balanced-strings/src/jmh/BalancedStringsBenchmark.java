@@ -0,0 +1,153 @@
+package jmh;
+
+import main.BalanceReport;
+import main.BatchBalanceChecker;
+import main.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the balanced-string checks on representative inputs.
+ * Run with {@code mvn -P benchmark compile exec:exec}; the GC profiler is enabled
+ * by default so the allocation rate of each path is reported next to its score.
+ * Pass other JMH options with {@code -Djmh.args="..."}.
+ * Inputs of a few symbols are measured by {@link ShortFieldBenchmark}.
+ * The batch cases check the same text cut into {@value #FIELD_LENGTH}-char fields.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BalancedStringsBenchmark {
+
+    public enum Shape {
+        /** Many sibling pairs, depth 1. */
+        FLAT,
+        /** One long chain of nested pairs. */
+        DEEP,
+        /** Balanced text preceded by a stray closer. */
+        EARLY_FAIL,
+        /** JSON-like text where fewer than 2% of chars are symbols. */
+        MOSTLY_TEXT
+    }
+
+    @Param({"FLAT", "DEEP", "EARLY_FAIL", "MOSTLY_TEXT"})
+    public Shape shape;
+
+    static final int FIELD_LENGTH = 64;
+
+    @Param({"64", "1048576"})
+    public int size;
+
+    private String text;
+    private char[] chars;
+    private byte[] utf8;
+    private final List<String> fields = new ArrayList<>();
+    private final BalanceReport report = new BalanceReport();
+
+    @Setup
+    public void setUp() {
+        text = build(shape, size);
+        chars = text.toCharArray();
+        utf8 = text.getBytes(StandardCharsets.UTF_8);
+        fields.clear();
+        for (int from = 0; from < text.length(); from += FIELD_LENGTH) {
+            fields.add(text.substring(from, Math.min(text.length(), from + FIELD_LENGTH)));
+        }
+    }
+
+    static String build(Shape shape, int size) {
+        StringBuilder sb = new StringBuilder(size);
+        switch (shape) {
+            case FLAT:
+                while (sb.length() + 2 <= size) {
+                    int pair = sb.length() % 6;
+                    sb.append("()[]{}", pair, pair + 2);
+                }
+                return sb.toString();
+            case DEEP:
+                for (int i = 0; i < size / 2; i++) {
+                    sb.append("([{".charAt(i % 3));
+                }
+                for (int i = size / 2 - 1; i >= 0; i--) {
+                    sb.append(")]}".charAt(i % 3));
+                }
+                return sb.toString();
+            case EARLY_FAIL:
+                return "]" + build(Shape.FLAT, size - 1);
+            default:
+                Random random = new Random(0);
+                while (sb.length() < size) {
+                    sb.append("{\"name\": \"lorem ipsum dolor sit amet\", \"value\": ")
+                            .append(random.nextInt(1_000_000))
+                            .append(", \"note\": \"consectetur adipiscing elit sed do eiusmod\"}\n");
+                }
+                return sb.toString();
+        }
+    }
+
+    @Benchmark
+    public boolean isBalancedString() {
+        return StringUtils.isBalanced(text);
+    }
+
+    @Benchmark
+    public boolean isBalancedScalar() {
+        return StringUtils.isBalancedScalar(text);
+    }
+
+    @Benchmark
+    public boolean isBalancedCharArray() {
+        return StringUtils.isBalanced(chars, 0, chars.length);
+    }
+
+    @Benchmark
+    public boolean isBalancedUtf8() {
+        return StringUtils.isBalancedUtf8(utf8, 0, utf8.length);
+    }
+
+    @Benchmark
+    public boolean checkWithReport() {
+        return StringUtils.check(text, report);
+    }
+
+    @Benchmark
+    public BitSet checkBatch() {
+        return BatchBalanceChecker.check(fields);
+    }
+
+    @Benchmark
+    public BitSet checkBatchOnCommonPool() {
+        return BatchBalanceChecker.check(fields, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public BitSet checkFieldsInLoop() {
+        BitSet results = new BitSet(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            if (StringUtils.isBalanced(fields.get(i))) {
+                results.set(i);
+            }
+        }
+        return results;
+    }
+}
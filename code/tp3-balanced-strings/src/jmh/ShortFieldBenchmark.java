@@ -0,0 +1,60 @@
+package jmh;
+
+import main.BalanceReport;
+import main.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the balanced-string checks on a single short field, where the fixed
+ * cost of each call dominates. Kept apart from {@link BalancedStringsBenchmark} so that
+ * this size-independent input is not repeated for every size of the latter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShortFieldBenchmark {
+
+    private final String text = "{a:[1,(2)]}";
+    private final char[] chars = text.toCharArray();
+    private final byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+    private final BalanceReport report = new BalanceReport();
+
+    @Benchmark
+    public boolean isBalancedString() {
+        return StringUtils.isBalanced(text);
+    }
+
+    @Benchmark
+    public boolean isBalancedScalar() {
+        return StringUtils.isBalancedScalar(text);
+    }
+
+    @Benchmark
+    public boolean isBalancedCharArray() {
+        return StringUtils.isBalanced(chars, 0, chars.length);
+    }
+
+    @Benchmark
+    public boolean isBalancedUtf8() {
+        return StringUtils.isBalancedUtf8(utf8, 0, utf8.length);
+    }
+
+    @Benchmark
+    public boolean checkWithReport() {
+        return StringUtils.check(text, report);
+    }
+}
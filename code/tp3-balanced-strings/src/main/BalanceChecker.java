@@ -0,0 +1,340 @@
+package main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Stateful bracket checker fed chunk by chunk.
+ * Memory use is bounded by the nesting depth of the input, not its length,
+ * and the answer is the one {@link StringUtils#isBalanced(CharSequence, BracketSpec)} gives
+ * on the concatenation of every chunk fed since the last {@link #reset()}.
+ * Instances are not thread-safe.
+ */
+public final class BalanceChecker {
+
+    static final int BUFFER_SIZE = 8192;
+
+    /** Stands for a decoded multi-byte UTF-8 sequence; never a symbol of an ASCII spec. */
+    private static final char NON_ASCII = '\u0080';
+
+    /** Default size of the file regions mapped at once by {@link #checkFile(Path)}. */
+    public static final int DEFAULT_MAP_WINDOW = 1 << 28;
+
+    private final BracketSpec spec;
+    private final Lexer lexer;
+    /** Whether every symbol of both specs is ASCII, which byte input requires. */
+    private final boolean asciiOnly;
+    private final CharStack stack = new CharStack();
+    private boolean failed;
+
+    /**
+     * Creates a checker for the pairs of {@link BracketSpec#DEFAULT}.
+     */
+    public BalanceChecker() {
+        this(BracketSpec.DEFAULT);
+    }
+
+    /**
+     * Creates a checker for the pairs of the given spec.
+     *
+     * @param spec Grouping symbols to balance
+     */
+    public BalanceChecker(BracketSpec spec) {
+        this(spec, LexerSpec.NONE);
+    }
+
+    /**
+     * Creates a checker for the pairs of the given spec that ignores grouping symbols
+     * inside the literals and comments described by {@code lexer}. Literals and
+     * comments may be split across chunks.
+     *
+     * @param spec  Grouping symbols to balance
+     * @param lexer Literals and comments to skip
+     */
+    public BalanceChecker(BracketSpec spec, LexerSpec lexer) {
+        if (spec == null) {
+            throw new NullPointerException("The spec is null.");
+        }
+        if (lexer == null) {
+            throw new NullPointerException("The lexer spec is null.");
+        }
+        this.spec = spec;
+        this.lexer = lexer.markerCount() == 0 ? null : new Lexer(lexer);
+        this.asciiOnly = spec.isAscii() && lexer.isAscii();
+    }
+
+    /**
+     * Consumes a single char.
+     *
+     * @param c Next char of the input
+     * @return this checker
+     */
+    public BalanceChecker feed(char c) {
+        if (!failed) {
+            failed = !accept(c);
+        }
+        return this;
+    }
+
+    private boolean accept(char c) {
+        return lexer == null ? spec.accept(stack, c) : lexer.accept(c, spec, stack);
+    }
+
+    /**
+     * Consumes {@code length} chars of {@code chars} starting at {@code offset}.
+     *
+     * @return this checker
+     * @throws IndexOutOfBoundsException if the range lies outside the array
+     */
+    public BalanceChecker feed(char[] chars, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        int end = offset + length;
+        if (lexer != null) {
+            for (int i = offset; i < end && !failed; i++) {
+                failed = !lexer.accept(chars[i], spec, stack);
+            }
+            return this;
+        }
+        for (int i = offset; i < end && !failed; i++) {
+            failed = !spec.accept(stack, chars[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Consumes every char of the sequence.
+     *
+     * @return this checker
+     */
+    public BalanceChecker feed(CharSequence seq) {
+        int length = seq.length();
+        for (int i = 0; i < length && !failed; i++) {
+            failed = !accept(seq.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Consumes the remaining bytes of a buffer holding UTF-8 text, advancing its position.
+     * Every grouping symbol is a single ASCII byte and UTF-8 never uses bytes below 0x80
+     * inside a multi-byte sequence, so those are skipped without being decoded.
+     * A sequence may therefore be split across two calls.
+     * With a lexer spec, each multi-byte sequence counts as one ordinary char,
+     * so that an escape char applies to it as a whole.
+     *
+     * @return this checker
+     * @throws IllegalArgumentException if the spec or the lexer spec has non-ASCII symbols
+     */
+    public BalanceChecker feedUtf8(ByteBuffer buffer) {
+        requireAscii();
+        int limit = buffer.limit();
+        if (lexer != null) {
+            for (int i = buffer.position(); i < limit && !failed; i++) {
+                byte b = buffer.get(i);
+                if (b >= 0) {
+                    failed = !lexer.accept((char) b, spec, stack);
+                }
+                else if ((b & 0xC0) == 0xC0) {
+                    failed = !lexer.accept(NON_ASCII, spec, stack);
+                }
+            }
+            buffer.position(limit);
+            return this;
+        }
+        for (int i = buffer.position(); i < limit && !failed; i++) {
+            byte b = buffer.get(i);
+            if (b >= 0) {
+                failed = !spec.accept(stack, (char) b);
+            }
+        }
+        buffer.position(limit);
+        return this;
+    }
+
+    private void requireAscii() {
+        if (!asciiOnly) {
+            throw new IllegalArgumentException("Byte input requires ASCII grouping symbols: " + spec);
+        }
+    }
+
+    /**
+     * Returns true if a closer without a matching opener was met.
+     * No further input can make the text balanced again.
+     */
+    public boolean hasFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns true if the input consumed so far is balanced on its own.
+     * With a lexer spec, chars held back as the possible start of a marker
+     * are not taken into account until more input or {@link #finish()} comes.
+     */
+    public boolean isBalancedSoFar() {
+        return !failed && stack.isEmpty() && (lexer == null || lexer.canEnd());
+    }
+
+    /**
+     * Returns the number of openers still waiting for their closer.
+     */
+    public int depth() {
+        return stack.size();
+    }
+
+    /**
+     * Ends the input and tells whether the whole text was balanced.
+     * The checker keeps its state until {@link #reset()} is called.
+     *
+     * @return true if balanced, false otherwise
+     */
+    public boolean finish() {
+        if (!failed && lexer != null) {
+            failed = !lexer.finish(spec, stack);
+        }
+        return isBalancedSoFar();
+    }
+
+    /**
+     * Forgets all consumed input so the checker can be reused.
+     */
+    public void reset() {
+        stack.clear();
+        failed = false;
+        if (lexer != null) {
+            lexer.reset();
+        }
+    }
+
+    /**
+     * Checks a whole character stream, reading it in bounded chunks.
+     * Reading stops as soon as the outcome is known; the reader is not closed.
+     *
+     * @param reader Source of the text
+     * @return true if balanced, false otherwise
+     * @throws IOException if reading fails
+     */
+    public static boolean check(Reader reader) throws IOException {
+        return check(reader, BracketSpec.DEFAULT, LexerSpec.NONE);
+    }
+
+    /**
+     * Same as {@link #check(Reader)} with the pairs of the given spec, ignoring the grouping
+     * symbols inside the literals and comments described by {@code lexer}.
+     *
+     * @throws IOException if reading fails
+     */
+    public static boolean check(Reader reader, BracketSpec spec, LexerSpec lexer) throws IOException {
+        BalanceChecker checker = new BalanceChecker(spec, lexer);
+        char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while (!checker.hasFailed() && (read = reader.read(buffer, 0, buffer.length)) != -1) {
+            checker.feed(buffer, 0, read);
+        }
+        return checker.finish();
+    }
+
+    /**
+     * Checks a whole byte stream decoded with the given charset.
+     * The stream is not closed.
+     *
+     * @throws IOException if reading fails
+     */
+    public static boolean check(InputStream in, Charset charset) throws IOException {
+        return check(in, charset, BracketSpec.DEFAULT, LexerSpec.NONE);
+    }
+
+    /**
+     * Same as {@link #check(InputStream, Charset)} with the given specs, see {@link #check(Reader, BracketSpec, LexerSpec)}.
+     *
+     * @throws IOException if reading fails
+     */
+    public static boolean check(InputStream in, Charset charset, BracketSpec spec, LexerSpec lexer) throws IOException {
+        return check(new InputStreamReader(in, charset), spec, lexer);
+    }
+
+    /**
+     * Checks a whole channel decoded with the given charset.
+     * The channel is not closed.
+     *
+     * @throws IOException if reading fails
+     */
+    public static boolean check(ReadableByteChannel channel, Charset charset) throws IOException {
+        return check(channel, charset, BracketSpec.DEFAULT, LexerSpec.NONE);
+    }
+
+    /**
+     * Same as {@link #check(ReadableByteChannel, Charset)} with the given specs, see {@link #check(Reader, BracketSpec, LexerSpec)}.
+     *
+     * @throws IOException if reading fails
+     */
+    public static boolean check(ReadableByteChannel channel, Charset charset, BracketSpec spec, LexerSpec lexer)
+            throws IOException {
+        return check(Channels.newReader(channel, charset.newDecoder(), BUFFER_SIZE), spec, lexer);
+    }
+
+    /**
+     * Checks a UTF-8 or ASCII file by mapping it into memory, without decoding it.
+     * Files larger than {@link #DEFAULT_MAP_WINDOW} bytes are mapped one window at a time.
+     *
+     * @param path File to check
+     * @return the result of {@code isBalanced(Files.readString(path))} for valid UTF-8
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean checkFile(Path path) throws IOException {
+        return checkFile(path, DEFAULT_MAP_WINDOW);
+    }
+
+    /**
+     * Same as {@link #checkFile(Path)} with an explicit mapping window size.
+     *
+     * @param windowSize Number of bytes mapped at once
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean checkFile(Path path, int windowSize) throws IOException {
+        return checkFile(path, windowSize, BracketSpec.DEFAULT, LexerSpec.NONE);
+    }
+
+    /**
+     * Same as {@link #checkFile(Path)} with the pairs of the given spec, ignoring the grouping
+     * symbols inside the literals and comments described by {@code lexer}.
+     *
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the spec or the lexer spec has non-ASCII symbols
+     */
+    public static boolean checkFile(Path path, BracketSpec spec, LexerSpec lexer) throws IOException {
+        return checkFile(path, DEFAULT_MAP_WINDOW, spec, lexer);
+    }
+
+    /**
+     * Same as {@link #checkFile(Path, BracketSpec, LexerSpec)} with an explicit mapping window size.
+     *
+     * @param windowSize Number of bytes mapped at once
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the spec or the lexer spec has non-ASCII symbols
+     */
+    public static boolean checkFile(Path path, int windowSize, BracketSpec spec, LexerSpec lexer) throws IOException {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive.");
+        }
+        BalanceChecker checker = new BalanceChecker(spec, lexer);
+        checker.requireAscii();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size && !checker.hasFailed(); position += windowSize) {
+                long length = Math.min(windowSize, size - position);
+                checker.feedUtf8(channel.map(FileChannel.MapMode.READ_ONLY, position, length));
+            }
+            return checker.finish();
+        }
+    }
+}
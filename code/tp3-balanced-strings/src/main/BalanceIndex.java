@@ -0,0 +1,630 @@
+package main;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Editable text that keeps track of its balance as it is modified.
+ * The text is cut into blocks of at most {@link #MAX_BLOCK} chars held in a treap.
+ * Every node summarizes its subtree by the count and a polynomial hash of its unmatched
+ * closers, in text order, and of its unmatched openers, innermost first, plus the first
+ * mismatch. Joining two summaries compares the innermost openers of the first with the
+ * leading closers of the second through prefix hashes, each found by a single descent,
+ * so an edit rebuilds the one or two blocks it touches and costs O(log&sup2; n) whatever
+ * the nesting depth or the number of unclosed symbols.
+ *
+ * <p>Hashes are taken modulo 2<sup>61</sup>-1 with a base drawn at random when the class
+ * is loaded, so answers equal {@link StringUtils#isBalanced(CharSequence, BracketSpec)}
+ * on the current text unless two distinct pair sequences collide, which has a probability
+ * below 2<sup>-30</sup> per comparison. Instances are not thread-safe.
+ */
+public final class BalanceIndex {
+
+    static final int MAX_BLOCK = 512;
+    static final int MIN_BLOCK = MAX_BLOCK / 4;
+
+    private final BracketSpec spec;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    /** Nodes visited by summary updates and queries, for tests bounding the cost of an edit. */
+    private long work;
+
+    public BalanceIndex() {
+        this("", BracketSpec.DEFAULT);
+    }
+
+    public BalanceIndex(CharSequence text) {
+        this(text, BracketSpec.DEFAULT);
+    }
+
+    /**
+     * @param text Initial content
+     * @param spec Grouping symbols to balance
+     */
+    public BalanceIndex(CharSequence text, BracketSpec spec) {
+        if (spec == null) {
+            throw new NullPointerException("The spec is null.");
+        }
+        this.spec = spec;
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = text.charAt(i);
+        }
+        this.root = build(chars);
+    }
+
+    /**
+     * Returns the number of chars of the text.
+     */
+    public int length() {
+        return size(root);
+    }
+
+    /**
+     * Inserts {@code text} before the char at {@code offset}.
+     *
+     * @throws IndexOutOfBoundsException if {@code offset} is outside {@code [0, length()]}
+     */
+    public void insert(int offset, CharSequence text) {
+        replace(offset, offset, text);
+    }
+
+    /**
+     * Removes the chars from {@code start} inclusive to {@code end} exclusive.
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the text
+     */
+    public void delete(int start, int end) {
+        replace(start, end, "");
+    }
+
+    /**
+     * Replaces the chars from {@code start} inclusive to {@code end} exclusive with {@code text}.
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the text
+     */
+    public void replace(int start, int end, CharSequence text) {
+        int length = length();
+        Objects.checkFromToIndex(start, end, length);
+        if (root == null) {
+            root = build(toArray(text, new char[0], 0, new char[0], 0, 0));
+            return;
+        }
+
+        // Widen the edit to whole blocks, and to the previous block if the result would be small.
+        int from = blockStart(root, Math.min(start, length - 1));
+        int to = blockEnd(root, end > start ? end - 1 : Math.min(start, length - 1));
+        int newLength = (to - from) - (end - start) + text.length();
+        if (newLength < MIN_BLOCK && from > 0) {
+            from = blockStart(root, from - 1);
+        }
+
+        Node[] parts = split(root, from);
+        Node[] middle = split(parts[1], to - from);
+        char[] prefix = new char[start - from];
+        char[] suffix = new char[to - end];
+        copy(middle[0], 0, prefix.length, prefix, 0);
+        copy(middle[0], end - from, to - from, suffix, 0);
+        Node rebuilt = build(toArray(text, prefix, prefix.length, suffix, 0, suffix.length));
+        root = merge(merge(parts[0], rebuilt), middle[1]);
+    }
+
+    /**
+     * Returns true if the current text is balanced.
+     */
+    public boolean isBalanced() {
+        return firstMismatch() < 0;
+    }
+
+    /**
+     * Returns the offset at which {@link StringUtils#isBalanced(CharSequence)} stops:
+     * the first closer without a matching opener, or {@link #length()} if only openers
+     * are left unclosed, or -1 if the text is balanced.
+     */
+    public int firstMismatch() {
+        int first = mismatch(root);
+        if (closers(root) > 0) {
+            first = earliest(first, closerOffset(root, 0));
+        }
+        if (first < 0 && openers(root) > 0) {
+            first = size(root);
+        }
+        return first;
+    }
+
+    /**
+     * Returns the number of openers left unclosed by the whole text.
+     */
+    public int unclosedCount() {
+        return openers(root);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length()];
+        copy(root, 0, chars.length, chars, 0);
+        return new String(chars);
+    }
+
+    private static char[] toArray(CharSequence text, char[] prefix, int prefixLength,
+                                  char[] suffix, int suffixFrom, int suffixTo) {
+        char[] chars = Arrays.copyOf(prefix, prefixLength + text.length() + suffixTo - suffixFrom);
+        for (int i = 0; i < text.length(); i++) {
+            chars[prefixLength + i] = text.charAt(i);
+        }
+        System.arraycopy(suffix, suffixFrom, chars, prefixLength + text.length(), suffixTo - suffixFrom);
+        return chars;
+    }
+
+    private Node build(char[] chars) {
+        Node result = null;
+        for (int from = 0; from < chars.length; from += MAX_BLOCK) {
+            char[] block = Arrays.copyOfRange(chars, from, Math.min(chars.length, from + MAX_BLOCK));
+            Node node = new Node(block, random.nextInt(), Segment.of(block, spec));
+            update(node);
+            result = merge(result, node);
+        }
+        return result;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.length;
+    }
+
+    private static int closers(Node node) {
+        return node == null ? 0 : node.closers;
+    }
+
+    private static int openers(Node node) {
+        return node == null ? 0 : node.openers;
+    }
+
+    private static long closerHash(Node node) {
+        return node == null ? 0 : node.closerHash;
+    }
+
+    private static long openerHash(Node node) {
+        return node == null ? 0 : node.openerHash;
+    }
+
+    private static int mismatch(Node node) {
+        return node == null ? -1 : node.mismatch;
+    }
+
+    private static int blockStart(Node node, int offset) {
+        int base = 0;
+        while (true) {
+            int leftLength = size(node.left);
+            if (offset < leftLength) {
+                node = node.left;
+            }
+            else if (offset < leftLength + node.chars.length) {
+                return base + leftLength;
+            }
+            else {
+                base += leftLength + node.chars.length;
+                offset -= leftLength + node.chars.length;
+                node = node.right;
+            }
+        }
+    }
+
+    private static int blockEnd(Node node, int offset) {
+        int start = blockStart(node, offset);
+        return start + blockLength(node, offset);
+    }
+
+    private static int blockLength(Node node, int offset) {
+        while (true) {
+            int leftLength = size(node.left);
+            if (offset < leftLength) {
+                node = node.left;
+            }
+            else if (offset < leftLength + node.chars.length) {
+                return node.chars.length;
+            }
+            else {
+                offset -= leftLength + node.chars.length;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Splits the subtree before the block boundary {@code offset}.
+     */
+    private Node[] split(Node node, int offset) {
+        if (node == null) {
+            return new Node[2];
+        }
+        int leftLength = size(node.left);
+        if (offset <= leftLength) {
+            Node[] parts = split(node.left, offset);
+            node.left = parts[1];
+            update(node);
+            parts[1] = node;
+            return parts;
+        }
+        Node[] parts = split(node.right, offset - leftLength - node.chars.length);
+        node.right = parts[0];
+        update(node);
+        parts[0] = node;
+        return parts;
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    /**
+     * Copies the chars of the subtree from {@code from} inclusive to {@code to} exclusive.
+     */
+    private static void copy(Node node, int from, int to, char[] dest, int destPos) {
+        if (node == null || from >= to) {
+            return;
+        }
+        int leftLength = size(node.left);
+        int blockEnd = leftLength + node.chars.length;
+        if (from < leftLength) {
+            copy(node.left, from, Math.min(to, leftLength), dest, destPos);
+        }
+        int copyFrom = Math.max(from, leftLength);
+        int copyTo = Math.min(to, blockEnd);
+        if (copyFrom < copyTo) {
+            System.arraycopy(node.chars, copyFrom - leftLength, dest, destPos + copyFrom - from, copyTo - copyFrom);
+        }
+        if (to > blockEnd) {
+            copy(node.right, Math.max(from, blockEnd) - blockEnd, to - blockEnd, dest, destPos + Math.max(from, blockEnd) - from);
+        }
+    }
+
+    /**
+     * Recomputes the summary of a node from its block and the summaries of its children.
+     * The unmatched closers of the subtree are {@code C(left) ++ C(own)[a..] ++ C(right)[k..]}
+     * and its unmatched openers, innermost first, {@code T(right) ++ T(own)[b..] ++ T(left)[c..]};
+     * the node keeps those offsets and the hashes of the dropped prefixes of its children
+     * so that queries can descend into a single child.
+     */
+    private void update(Node node) {
+        work++;
+        Node left = node.left;
+        Node right = node.right;
+        Segment own = node.own;
+        int leftLength = size(left);
+        node.length = leftLength + own.length + size(right);
+
+        // Join the left subtree with the block: the innermost openers of the one
+        // close on the leading closers of the other.
+        int leftOpeners = openers(left);
+        int a = Math.min(leftOpeners, own.closerCount());
+        long leftTop = openerPrefix(left, a);
+        int mismatch = mismatch(left);
+        if (mismatch < 0) {
+            if (leftTop != own.closerPrefix(a)) {
+                int j = firstDifference(m -> openerPrefix(left, m), own::closerPrefix, a);
+                mismatch = leftLength + own.closerOffset(j);
+            }
+            if (own.mismatch >= 0) {
+                mismatch = earliest(mismatch, leftLength + own.mismatch);
+            }
+        }
+        int joinedLength = leftLength + own.length;
+        int joinedClosers = closers(left) + own.closerCount() - a;
+        int joinedOpeners = own.openerCount() + leftOpeners - a;
+        long joinedCloserHash = add(mul(closerHash(left), pow(own.closerCount() - a)),
+                own.closerRange(a, own.closerCount()));
+        long joinedOpenerHash = add(mul(own.openerPrefix(own.openerCount()), pow(leftOpeners - a)),
+                sub(openerHash(left), mul(leftTop, pow(leftOpeners - a))));
+
+        // Join the result with the right subtree.
+        int rightClosers = closers(right);
+        int k = Math.min(joinedOpeners, rightClosers);
+        long rightLead = closerPrefix(right, k);
+        int b = Math.min(k, own.openerCount());
+        int c = a + k - b;
+        long leftSkipped = c == a ? leftTop : openerPrefix(left, c);
+        IntToLongFunction joinedTop = m -> m <= own.openerCount() ? own.openerPrefix(m)
+                : add(mul(own.openerPrefix(own.openerCount()), pow(m - own.openerCount())),
+                        sub(openerPrefix(left, a + m - own.openerCount()), mul(leftTop, pow(m - own.openerCount()))));
+        long joinedInner = b < k ? add(mul(own.openerPrefix(own.openerCount()), pow(k - b)),
+                sub(leftSkipped, mul(leftTop, pow(k - b)))) : own.openerPrefix(k);
+        if (mismatch < 0) {
+            if (joinedInner != rightLead) {
+                int j = firstDifference(joinedTop, m -> closerPrefix(right, m), k);
+                mismatch = joinedLength + closerOffset(right, j);
+            }
+            if (mismatch(right) >= 0) {
+                mismatch = earliest(mismatch, joinedLength + mismatch(right));
+            }
+        }
+
+        node.mismatch = mismatch;
+        node.closers = joinedClosers + rightClosers - k;
+        node.closerHash = add(mul(joinedCloserHash, pow(rightClosers - k)),
+                sub(closerHash(right), mul(rightLead, pow(rightClosers - k))));
+        node.openers = openers(right) + joinedOpeners - k;
+        node.openerHash = add(mul(openerHash(right), pow(joinedOpeners - k)),
+                sub(joinedOpenerHash, mul(joinedInner, pow(joinedOpeners - k))));
+        node.ownCloserSkip = a;
+        node.rightCloserSkip = k;
+        node.rightCloserSkipHash = rightLead;
+        node.ownOpenerSkip = b;
+        node.leftOpenerSkip = c;
+        node.leftOpenerSkipHash = leftSkipped;
+    }
+
+    /**
+     * Returns the hash of the first {@code m} unmatched closers of the subtree.
+     */
+    private long closerPrefix(Node node, int m) {
+        long result = 0;
+        while (m > 0) {
+            work++;
+            int leftClosers = closers(node.left);
+            if (m <= leftClosers) {
+                node = node.left;
+                continue;
+            }
+            Segment own = node.own;
+            int skip = node.ownCloserSkip;
+            int ownClosers = own.closerCount() - skip;
+            long hash = closerHash(node.left);
+            if (m <= leftClosers + ownClosers) {
+                int t = m - leftClosers;
+                return add(result, add(mul(hash, pow(t)), own.closerRange(skip, skip + t)));
+            }
+            hash = add(mul(hash, pow(ownClosers)), own.closerRange(skip, own.closerCount()));
+            int t = m - leftClosers - ownClosers;
+            result = add(result, mul(sub(hash, node.rightCloserSkipHash), pow(t)));
+            m = node.rightCloserSkip + t;
+            node = node.right;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the hash of the {@code m} innermost unmatched openers of the subtree.
+     */
+    private long openerPrefix(Node node, int m) {
+        long result = 0;
+        while (m > 0) {
+            work++;
+            int rightOpeners = openers(node.right);
+            if (m <= rightOpeners) {
+                node = node.right;
+                continue;
+            }
+            Segment own = node.own;
+            int skip = node.ownOpenerSkip;
+            int ownOpeners = own.openerCount() - skip;
+            long hash = openerHash(node.right);
+            if (m <= rightOpeners + ownOpeners) {
+                int t = m - rightOpeners;
+                return add(result, add(mul(hash, pow(t)), own.openerRange(skip, skip + t)));
+            }
+            hash = add(mul(hash, pow(ownOpeners)), own.openerRange(skip, own.openerCount()));
+            int t = m - rightOpeners - ownOpeners;
+            result = add(result, mul(sub(hash, node.leftOpenerSkipHash), pow(t)));
+            m = node.leftOpenerSkip + t;
+            node = node.left;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the offset, relative to the subtree, of its unmatched closer of index {@code j}.
+     */
+    private int closerOffset(Node node, int j) {
+        int base = 0;
+        while (true) {
+            work++;
+            int leftClosers = closers(node.left);
+            if (j < leftClosers) {
+                node = node.left;
+                continue;
+            }
+            Segment own = node.own;
+            int skip = node.ownCloserSkip;
+            int ownClosers = own.closerCount() - skip;
+            if (j < leftClosers + ownClosers) {
+                return base + size(node.left) + own.closerOffset(skip + j - leftClosers);
+            }
+            base += size(node.left) + own.length;
+            j = node.rightCloserSkip + j - leftClosers - ownClosers;
+            node = node.right;
+        }
+    }
+
+    private static int earliest(int mismatch, int other) {
+        return mismatch < 0 ? other : Math.min(mismatch, other);
+    }
+
+    /**
+     * Returns the first index at which two sequences of {@code count} symbols differ,
+     * given their prefix hashes; they must differ somewhere.
+     */
+    private static int firstDifference(IntToLongFunction first, IntToLongFunction second, int count) {
+        int equal = 0;
+        int different = count;
+        while (different - equal > 1) {
+            int mid = (equal + different) >>> 1;
+            if (first.applyAsLong(mid) == second.applyAsLong(mid)) {
+                equal = mid;
+            }
+            else {
+                different = mid;
+            }
+        }
+        return equal;
+    }
+
+    private static final long MODULUS = (1L << 61) - 1;
+    private static final long BASE = new SplittableRandom().nextLong(1L << 20, MODULUS);
+
+    /** Powers of the base in three levels of 2<sup>11</sup>, enough for every int exponent. */
+    private static final long[][] POWERS = new long[3][1 << 11];
+
+    static {
+        long power = 1;
+        for (int level = 0; level < POWERS.length; level++) {
+            long[] powers = POWERS[level];
+            powers[0] = 1;
+            for (int i = 1; i < powers.length; i++) {
+                powers[i] = mul(powers[i - 1], level == 0 ? BASE : power);
+            }
+            power = mul(powers[powers.length - 1], level == 0 ? BASE : power);
+        }
+    }
+
+    private static long pow(int exponent) {
+        return mul(mul(POWERS[0][exponent & 0x7FF], POWERS[1][exponent >>> 11 & 0x7FF]), POWERS[2][exponent >>> 22]);
+    }
+
+    private static long mul(long a, long b) {
+        long low = a * b;
+        long high = Math.multiplyHigh(a, b);
+        long result = (low & MODULUS) + (low >>> 61 | high << 3);
+        result = (result & MODULUS) + (result >>> 61);
+        return result >= MODULUS ? result - MODULUS : result;
+    }
+
+    private static long add(long a, long b) {
+        long result = a + b;
+        return result >= MODULUS ? result - MODULUS : result;
+    }
+
+    private static long sub(long a, long b) {
+        long result = a - b;
+        return result < 0 ? result + MODULUS : result;
+    }
+
+    private static final class Node {
+
+        final char[] chars;
+        final int priority;
+        final Segment own;
+        Node left;
+        Node right;
+        int length;
+
+        int closers;
+        int openers;
+        long closerHash;
+        long openerHash;
+        int mismatch;
+
+        int ownCloserSkip;
+        int rightCloserSkip;
+        long rightCloserSkipHash;
+        int ownOpenerSkip;
+        int leftOpenerSkip;
+        long leftOpenerSkipHash;
+
+        Node(char[] chars, int priority, Segment own) {
+            this.chars = chars;
+            this.priority = priority;
+            this.own = own;
+        }
+    }
+
+    /**
+     * Reduced form of a block: the offsets of its unmatched closers, the prefix hashes of
+     * their pair ids in text order and of the pair ids of its unmatched openers innermost
+     * first, and {@code mismatch}, the first closer whose opener inside the block has
+     * another type, or -1.
+     */
+    static final class Segment {
+
+        final int[] closerOffsets;
+        final long[] closerPrefixes;
+        final long[] openerPrefixes;
+        final int mismatch;
+        final int length;
+
+        Segment(int[] closerOffsets, long[] closerPrefixes, long[] openerPrefixes, int mismatch, int length) {
+            this.closerOffsets = closerOffsets;
+            this.closerPrefixes = closerPrefixes;
+            this.openerPrefixes = openerPrefixes;
+            this.mismatch = mismatch;
+            this.length = length;
+        }
+
+        int closerCount() {
+            return closerOffsets.length;
+        }
+
+        int openerCount() {
+            return openerPrefixes.length - 1;
+        }
+
+        int closerOffset(int index) {
+            return closerOffsets[index];
+        }
+
+        long closerPrefix(int m) {
+            return closerPrefixes[m];
+        }
+
+        long openerPrefix(int m) {
+            return openerPrefixes[m];
+        }
+
+        long closerRange(int from, int to) {
+            return sub(closerPrefixes[to], mul(closerPrefixes[from], pow(to - from)));
+        }
+
+        long openerRange(int from, int to) {
+            return sub(openerPrefixes[to], mul(openerPrefixes[from], pow(to - from)));
+        }
+
+        static Segment of(char[] chars, BracketSpec spec) {
+            int[] closerOffsets = new int[chars.length];
+            int[] closerIds = new int[chars.length];
+            int[] openerIds = new int[chars.length];
+            int closerCount = 0;
+            int openerCount = 0;
+            int mismatch = -1;
+            for (int i = 0; i < chars.length; i++) {
+                int code = spec.code(chars[i]);
+                if (code > 0) {
+                    openerIds[openerCount++] = code;
+                }
+                else if (code < 0) {
+                    if (openerCount == 0) {
+                        closerOffsets[closerCount] = i;
+                        closerIds[closerCount++] = -code;
+                    }
+                    else if (openerIds[--openerCount] != -code && mismatch < 0) {
+                        mismatch = i;
+                    }
+                }
+            }
+            long[] closerPrefixes = new long[closerCount + 1];
+            for (int i = 0; i < closerCount; i++) {
+                closerPrefixes[i + 1] = add(mul(closerPrefixes[i], BASE), closerIds[i]);
+            }
+            long[] openerPrefixes = new long[openerCount + 1];
+            for (int i = 0; i < openerCount; i++) {
+                openerPrefixes[i + 1] = add(mul(openerPrefixes[i], BASE), openerIds[openerCount - 1 - i]);
+            }
+            return new Segment(Arrays.copyOf(closerOffsets, closerCount), closerPrefixes, openerPrefixes,
+                    mismatch, chars.length);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package main;
+
+/**
+ * Outcome of a checked scan, filled by {@link StringUtils#check(CharSequence, BalanceReport)}.
+ * A report is meant to be reused across calls so that checking allocates nothing;
+ * it is not thread-safe.
+ */
+public final class BalanceReport {
+
+    /** Stands for a missing symbol: no pending opener, or the end of the input. */
+    public static final char NONE = '\0';
+
+    private boolean balanced;
+    private int offset = -1;
+    private char expected = NONE;
+    private char found = NONE;
+    private int maxDepth;
+    private int unclosedCount;
+
+    /**
+     * Returns true if the last checked input was balanced.
+     */
+    public boolean isBalanced() {
+        return balanced;
+    }
+
+    /**
+     * Returns the offset of the first closer that did not match, the input length if
+     * only openers were left unclosed, or -1 if the input was balanced or null.
+     */
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * Returns the closer of the innermost pending opener at {@link #offset()},
+     * or {@link #NONE} if no opener was pending.
+     */
+    public char expected() {
+        return expected;
+    }
+
+    /**
+     * Returns the closer found at {@link #offset()}, or {@link #NONE} at the end of the input.
+     */
+    public char found() {
+        return found;
+    }
+
+    /**
+     * Returns the deepest nesting reached before the scan stopped.
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns the number of openers still pending when the scan stopped.
+     */
+    public int unclosedCount() {
+        return unclosedCount;
+    }
+
+    void succeed(int maxDepth) {
+        set(true, -1, NONE, NONE, maxDepth, 0);
+    }
+
+    void fail(int offset, char expected, char found, int maxDepth, int unclosedCount) {
+        set(false, offset, expected, found, maxDepth, unclosedCount);
+    }
+
+    private void set(boolean balanced, int offset, char expected, char found, int maxDepth, int unclosedCount) {
+        this.balanced = balanced;
+        this.offset = offset;
+        this.expected = expected;
+        this.found = found;
+        this.maxDepth = maxDepth;
+        this.unclosedCount = unclosedCount;
+    }
+
+    @Override
+    public String toString() {
+        if (balanced) {
+            return "balanced (max depth " + maxDepth + ")";
+        }
+        if (offset < 0) {
+            return "unbalanced (null input)";
+        }
+        return "unbalanced at " + offset
+                + ": expected " + (expected == NONE ? "nothing" : "'" + expected + "'")
+                + " but found " + (found == NONE ? "end of input" : "'" + found + "'")
+                + " (max depth " + maxDepth + ", " + unclosedCount + " unclosed)";
+    }
+}
@@ -0,0 +1,148 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Checks many short inputs in one call.
+ * Each worker fetches its scratch stack once per slice of inputs instead of once
+ * per input, and slices can be spread over a caller-supplied {@link Executor},
+ * for example a fixed pool or a virtual-thread-per-task executor.
+ * Null inputs are reported as unbalanced, like {@link StringUtils#isBalanced(CharSequence)}.
+ */
+public final class BatchBalanceChecker {
+
+    /** Number of inputs checked by a single task when running on an executor. */
+    public static final int DEFAULT_SLICE_SIZE = 1024;
+
+    private BatchBalanceChecker() {}
+
+    /**
+     * @param inputs Sequences to check
+     * @return set whose bit {@code i} tells whether {@code inputs.get(i)} is balanced
+     */
+    public static BitSet check(List<? extends CharSequence> inputs) {
+        return check(inputs, BracketSpec.DEFAULT);
+    }
+
+    /**
+     * Same as {@link #check(List)} with the pairs of the given spec.
+     */
+    public static BitSet check(List<? extends CharSequence> inputs, BracketSpec spec) {
+        requireSpec(spec);
+        List<? extends CharSequence> indexed = indexed(inputs);
+        boolean[] results = new boolean[indexed.size()];
+        checkSlice(indexed, spec, results, 0, results.length);
+        return toBitSet(results);
+    }
+
+    /**
+     * @param inputs Sequences to check
+     * @return array whose element {@code i} tells whether {@code inputs[i]} is balanced
+     */
+    public static boolean[] check(CharSequence[] inputs) {
+        return check(inputs, BracketSpec.DEFAULT);
+    }
+
+    /**
+     * Same as {@link #check(CharSequence[])} with the pairs of the given spec.
+     */
+    public static boolean[] check(CharSequence[] inputs, BracketSpec spec) {
+        requireSpec(spec);
+        boolean[] results = new boolean[inputs.length];
+        checkSlice(Arrays.asList(inputs), spec, results, 0, results.length);
+        return results;
+    }
+
+    /**
+     * Checks the inputs in slices of {@link #DEFAULT_SLICE_SIZE} run on {@code executor}.
+     *
+     * @param inputs   Sequences to check; must not be modified until the call returns
+     * @param executor Executor running the slices
+     * @return set whose bit {@code i} tells whether {@code inputs.get(i)} is balanced
+     */
+    public static BitSet check(List<? extends CharSequence> inputs, Executor executor) {
+        return check(inputs, BracketSpec.DEFAULT, executor, DEFAULT_SLICE_SIZE);
+    }
+
+    /**
+     * Same as {@link #check(List, Executor)} with an explicit slice size.
+     *
+     * @param sliceSize Number of inputs checked by a single task
+     */
+    public static BitSet check(List<? extends CharSequence> inputs, Executor executor, int sliceSize) {
+        return check(inputs, BracketSpec.DEFAULT, executor, sliceSize);
+    }
+
+    /**
+     * Same as {@link #check(List, Executor, int)} with the pairs of the given spec.
+     */
+    public static BitSet check(List<? extends CharSequence> inputs, BracketSpec spec, Executor executor, int sliceSize) {
+        requireSpec(spec);
+        if (sliceSize < 1) {
+            throw new IllegalArgumentException("Slice size must be positive.");
+        }
+        List<? extends CharSequence> indexed = indexed(inputs);
+        boolean[] results = new boolean[indexed.size()];
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < results.length; from += sliceSize) {
+            int start = from;
+            int end = Math.min(results.length, from + sliceSize);
+            tasks.add(CompletableFuture.runAsync(() -> checkSlice(indexed, spec, results, start, end), executor));
+        }
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return toBitSet(results);
+    }
+
+    private static void requireSpec(BracketSpec spec) {
+        if (spec == null) {
+            throw new NullPointerException("The spec is null.");
+        }
+    }
+
+    /**
+     * Returns the inputs as a list with constant-time {@code get}, copying them once if needed.
+     */
+    private static List<? extends CharSequence> indexed(List<? extends CharSequence> inputs) {
+        return inputs instanceof RandomAccess ? inputs : Arrays.asList(inputs.toArray(new CharSequence[0]));
+    }
+
+    private static void checkSlice(List<? extends CharSequence> inputs, BracketSpec spec,
+                                   boolean[] results, int from, int to) {
+        CharStack stack = StringUtils.SCRATCH_STACK.get();
+        try {
+            for (int i = from; i < to; i++) {
+                CharSequence input = inputs.get(i);
+                results[i] = input != null && spec.isBalanced(input, stack);
+                stack.clear();
+            }
+        }
+        finally {
+            stack.reset(StringUtils.MAX_RETAINED_STACK);
+        }
+    }
+
+    private static BitSet toBitSet(boolean[] results) {
+        BitSet bits = new BitSet(results.length);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i]) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,259 @@
+package main;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Immutable set of grouping symbol pairs, compiled into a dense table that gives the
+ * kind of any char with a single load. Instances are thread-safe and meant to be
+ * built once and shared.
+ *
+ * <p>Each pair gets an id starting at 1: the table holds {@code +id} for its opener,
+ * {@code -id} for its closer and 0 for any other char. Checkers push opener ids,
+ * so a closer matches when its id equals the popped one.
+ */
+public final class BracketSpec {
+
+    /** The {@code ()}, {@code {}} and {@code []} pairs of {@link StringUtils#isBalanced(String)}. */
+    public static final BracketSpec DEFAULT = of("(){}[]");
+
+    private final String pairs;
+    private final short[] codes;
+
+    private BracketSpec(String pairs, short[] codes) {
+        this.pairs = pairs;
+        this.codes = codes;
+    }
+
+    /**
+     * Compiles a spec from consecutive opener/closer chars, e.g. {@code "()[]{}<>«»"}.
+     * The table covers chars up to the largest symbol, so symbols should stay in the
+     * lower code points.
+     *
+     * @param pairs Opener then closer of every pair
+     * @return the compiled spec
+     * @throws IllegalArgumentException if the pairs are empty, odd or repeat a char
+     */
+    public static BracketSpec of(String pairs) {
+        if (pairs == null || pairs.isEmpty() || pairs.length() % 2 != 0) {
+            throw new IllegalArgumentException("Pairs must be a non-empty string of opener/closer chars.");
+        }
+        if (pairs.length() / 2 > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many pairs.");
+        }
+        char max = 0;
+        for (int i = 0; i < pairs.length(); i++) {
+            max = (char) Math.max(max, pairs.charAt(i));
+        }
+        short[] codes = new short[max + 1];
+        for (int i = 0; i < pairs.length(); i += 2) {
+            short id = (short) (i / 2 + 1);
+            char open = pairs.charAt(i);
+            char close = pairs.charAt(i + 1);
+            if (codes[open] != 0 || codes[close] != 0 || open == close) {
+                throw new IllegalArgumentException("Grouping symbols must be distinct: " + pairs);
+            }
+            codes[open] = id;
+            codes[close] = (short) -id;
+        }
+        return new BracketSpec(pairs, codes);
+    }
+
+    /**
+     * Returns a spec holding the pairs of this spec followed by {@code morePairs}.
+     *
+     * @throws IllegalArgumentException if the new pairs are invalid or already used
+     */
+    public BracketSpec with(String morePairs) {
+        return of(pairs + morePairs);
+    }
+
+    public boolean isOpener(char c) {
+        return code(c) > 0;
+    }
+
+    public boolean isCloser(char c) {
+        return code(c) < 0;
+    }
+
+    /**
+     * Returns true if {@code open} and {@code close} form one of the pairs.
+     */
+    public boolean matches(char open, char close) {
+        int id = code(open);
+        return id > 0 && code(close) == -id;
+    }
+
+    /**
+     * Returns true if every symbol is an ASCII char, which byte-level checkers require.
+     */
+    public boolean isAscii() {
+        return codes.length <= 128;
+    }
+
+    /**
+     * Returns the opener/closer chars this spec was built from.
+     */
+    public String pairs() {
+        return pairs;
+    }
+
+    /**
+     * Returns the closer of the pair with the given id.
+     */
+    char closerOf(int id) {
+        return pairs.charAt(2 * id - 1);
+    }
+
+    int code(char c) {
+        return c < codes.length ? codes[c] : 0;
+    }
+
+    /**
+     * Applies one char to the stack of pending opener ids.
+     *
+     * @return false if {@code c} is a closer that does not match the pending opener
+     */
+    boolean accept(CharStack stack, char c) {
+        return c >= codes.length || codes[c] == 0 || acceptSymbol(stack, codes[c]);
+    }
+
+    /**
+     * Checks a non-null sequence with a caller-owned empty stack,
+     * which is left dirty for the caller to reset.
+     */
+    boolean isBalanced(CharSequence seq, CharStack stack) {
+        short[] codes = this.codes;
+        int length = seq.length();
+        for (int i = 0; i < length; i++) {
+            char c = seq.charAt(i);
+            if (c < codes.length && codes[c] != 0 && !acceptSymbol(stack, codes[c])) {
+                return false;
+            }
+        }
+        return stack.isEmpty();
+    }
+
+    /**
+     * Same as {@link #isBalanced(CharSequence, CharStack)}, also filling {@code report}.
+     * Only openers and failures touch the report bookkeeping.
+     */
+    boolean check(CharSequence seq, CharStack stack, BalanceReport report) {
+        short[] codes = this.codes;
+        int maxDepth = 0;
+        int length = seq.length();
+        for (int i = 0; i < length; i++) {
+            char c = seq.charAt(i);
+            if (c >= codes.length || codes[c] == 0) {
+                continue;
+            }
+            short code = codes[c];
+            if (code > 0) {
+                stack.push((char) code);
+                maxDepth = Math.max(maxDepth, stack.size());
+            }
+            else if (stack.isEmpty()) {
+                report.fail(i, BalanceReport.NONE, c, maxDepth, 0);
+                return false;
+            }
+            else if (stack.peek() != -code) {
+                report.fail(i, closerOf(stack.peek()), c, maxDepth, stack.size());
+                return false;
+            }
+            else {
+                stack.pop();
+            }
+        }
+        if (!stack.isEmpty()) {
+            report.fail(length, closerOf(stack.peek()), BalanceReport.NONE, maxDepth, stack.size());
+            return false;
+        }
+        report.succeed(maxDepth);
+        return true;
+    }
+
+    /**
+     * Same as {@link #isBalanced(CharSequence, CharStack)} over an array range,
+     * skipping runs of other chars without touching the stack.
+     */
+    boolean isBalanced(char[] chars, int offset, int end, CharStack stack) {
+        short[] codes = this.codes;
+        int i = offset;
+        while (true) {
+            char c = 0;
+            while (i < end && ((c = chars[i]) >= codes.length || codes[c] == 0)) {
+                i++;
+            }
+            if (i == end) {
+                return stack.isEmpty();
+            }
+            if (!acceptSymbol(stack, codes[c])) {
+                return false;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Same as {@link #isBalanced(char[], int, int, CharStack)} over the bytes of UTF-8 text.
+     * Only valid for an {@link #isAscii() ASCII} spec: bytes of multi-byte sequences are
+     * all negative and skipped with the other chars.
+     */
+    boolean isBalancedUtf8(byte[] bytes, int offset, int end, CharStack stack) {
+        short[] codes = this.codes;
+        int i = offset;
+        while (true) {
+            byte b = 0;
+            while (i < end && ((b = bytes[i]) < 0 || b >= codes.length || codes[b] == 0)) {
+                i++;
+            }
+            if (i == end) {
+                return stack.isEmpty();
+            }
+            if (!acceptSymbol(stack, codes[b])) {
+                return false;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Same as {@link #isBalancedUtf8(byte[], int, int, CharStack)} with absolute reads,
+     * for direct and read-only buffers.
+     */
+    boolean isBalancedUtf8(ByteBuffer buffer, int offset, int end, CharStack stack) {
+        short[] codes = this.codes;
+        for (int i = offset; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= 0 && b < codes.length && codes[b] != 0 && !acceptSymbol(stack, codes[b])) {
+                return false;
+            }
+        }
+        return stack.isEmpty();
+    }
+
+    private static boolean acceptSymbol(CharStack stack, short code) {
+        if (code > 0) {
+            stack.push((char) code);
+            return true;
+        }
+        return !stack.isEmpty() && stack.pop() == -code;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof BracketSpec)) return false;
+        return Arrays.equals(codes, ((BracketSpec) obj).codes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(codes);
+    }
+
+    @Override
+    public String toString() {
+        return "BracketSpec" + pairs;
+    }
+}
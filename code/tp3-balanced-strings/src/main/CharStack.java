@@ -0,0 +1,74 @@
+package main;
+
+import java.util.Arrays;
+
+/**
+ * Growable stack of primitive chars used by the bracket checkers.
+ * Unlike {@code java.util.Stack<Character>} it neither boxes nor synchronizes,
+ * and it can be cleared and reused across calls.
+ */
+final class CharStack {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private char[] elements;
+    private int size;
+
+    CharStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    CharStack(int initialCapacity) {
+        this.elements = new char[Math.max(1, initialCapacity)];
+    }
+
+    void push(char c) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length << 1);
+        }
+        elements[size++] = c;
+    }
+
+    /**
+     * Removes and returns the top of the stack.
+     * Callers must check {@link #isEmpty()} first.
+     */
+    char pop() {
+        return elements[--size];
+    }
+
+    char peek() {
+        return elements[size - 1];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+
+    char[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Empties the stack and drops a backing array grown past {@code maxRetained},
+     * so that a single deeply nested input does not pin memory in a reused stack.
+     */
+    void reset(int maxRetained) {
+        size = 0;
+        if (elements.length > maxRetained) {
+            elements = new char[DEFAULT_CAPACITY];
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package main;
+
+/**
+ * Mutable state of the literal/comment state machine described by a {@link LexerSpec}.
+ * Chars are fed one at a time; only chars outside literals and comments reach the
+ * bracket stack. Chars that may still be the beginning of a marker are held in a queue
+ * no longer than the longest marker, so the state can be resumed across chunks
+ * without allocating.
+ */
+final class Lexer {
+
+    private static final int NO_MARKER = -1;
+    private static final int WAIT = -2;
+
+    private LexerSpec spec;
+    private char[] queue;
+    private int queued;
+
+    /** Literal or comment being skipped, or {@link #NO_MARKER} in code. */
+    private int marker = NO_MARKER;
+    private boolean escaped;
+
+    Lexer(LexerSpec spec) {
+        this.spec = spec;
+        this.queue = new char[spec.maxMarkerLength()];
+    }
+
+    /**
+     * Feeds one char.
+     *
+     * @return false if a closer in code does not match the pending opener
+     */
+    boolean accept(char c, BracketSpec brackets, CharStack stack) {
+        if (queued == 0) {
+            if (marker == NO_MARKER) {
+                if (!spec.mayStartMarker(c)) {
+                    return brackets.accept(stack, c);
+                }
+            }
+            else if (escaped) {
+                escaped = false;
+                return true;
+            }
+            else if (spec.kind(marker) == LexerSpec.QUOTE && spec.isEscape(c)) {
+                escaped = true;
+                return true;
+            }
+            else if (c != spec.end(marker).charAt(0)) {
+                return true;
+            }
+        }
+        queue[queued++] = c;
+        return drain(false, brackets, stack);
+    }
+
+    /**
+     * Ends the input, releasing the queued chars.
+     *
+     * @return false if a closer did not match, or if a literal or block comment is left open
+     */
+    boolean finish(BracketSpec brackets, CharStack stack) {
+        return drain(true, brackets, stack) && canEnd();
+    }
+
+    /**
+     * Returns true if the input may end here, i.e. outside any literal or block comment.
+     */
+    boolean canEnd() {
+        return marker == NO_MARKER || spec.kind(marker) == LexerSpec.LINE_COMMENT;
+    }
+
+    void reset() {
+        queued = 0;
+        marker = NO_MARKER;
+        escaped = false;
+    }
+
+    /**
+     * Forgets the consumed input and switches to another spec,
+     * keeping the queue if it is long enough for its markers.
+     */
+    void reset(LexerSpec spec) {
+        this.spec = spec;
+        if (queue.length < spec.maxMarkerLength()) {
+            queue = new char[spec.maxMarkerLength()];
+        }
+        reset();
+    }
+
+    private boolean drain(boolean endOfInput, BracketSpec brackets, CharStack stack) {
+        int head = 0;
+        boolean ok = true;
+        while (head < queued && ok) {
+            if (marker == NO_MARKER) {
+                int found = matchStart(head, endOfInput);
+                if (found == WAIT) {
+                    break;
+                }
+                if (found != NO_MARKER) {
+                    head += spec.start(found).length();
+                    marker = found;
+                    escaped = false;
+                }
+                else {
+                    ok = brackets.accept(stack, queue[head++]);
+                }
+            }
+            else if (escaped) {
+                escaped = false;
+                head++;
+            }
+            else if (spec.kind(marker) == LexerSpec.QUOTE && spec.isEscape(queue[head])) {
+                escaped = true;
+                head++;
+            }
+            else {
+                String end = spec.end(marker);
+                int available = queued - head;
+                if (matches(end, head, Math.min(available, end.length()))) {
+                    if (available < end.length()) {
+                        if (!endOfInput) {
+                            break;
+                        }
+                        head++;
+                    }
+                    else {
+                        head += end.length();
+                        marker = NO_MARKER;
+                    }
+                }
+                else {
+                    head++;
+                }
+            }
+        }
+        System.arraycopy(queue, head, queue, 0, queued - head);
+        queued -= head;
+        return ok;
+    }
+
+    /**
+     * Returns the longest marker starting at {@code head}, {@link #WAIT} if a longer
+     * one could still match once more chars are queued, or {@link #NO_MARKER}.
+     */
+    private int matchStart(int head, boolean endOfInput) {
+        int available = queued - head;
+        int best = NO_MARKER;
+        for (int i = 0; i < spec.markerCount(); i++) {
+            String start = spec.start(i);
+            if (start.length() > available) {
+                if (!endOfInput && matches(start, head, available)) {
+                    return WAIT;
+                }
+            }
+            else if (matches(start, head, start.length())
+                    && (best == NO_MARKER || start.length() > spec.start(best).length())) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private boolean matches(String marker, int head, int length) {
+        for (int i = 0; i < length; i++) {
+            if (queue[head + i] != marker.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
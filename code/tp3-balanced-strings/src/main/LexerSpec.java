@@ -0,0 +1,188 @@
+package main;
+
+import java.util.Arrays;
+
+/**
+ * Immutable description of the literals and comments whose content must be ignored
+ * when balancing grouping symbols: quote chars with an optional escape char,
+ * line comment markers and block comment markers. Markers may span several chars;
+ * when several start at the same position, the longest one wins.
+ *
+ * <p>Instances are thread-safe. Each {@code with} method returns a new spec.
+ */
+public final class LexerSpec {
+
+    static final int QUOTE = 0;
+    static final int LINE_COMMENT = 1;
+    static final int BLOCK_COMMENT = 2;
+
+    private static final int NO_ESCAPE = -1;
+
+    /** No literal nor comment: every grouping symbol counts. */
+    public static final LexerSpec NONE = new LexerSpec(new String[0], new String[0], new int[0], NO_ESCAPE);
+
+    /** Double-quoted strings with backslash escapes. */
+    public static final LexerSpec JSON = NONE.withEscape('\\').withQuote('"');
+
+    /** Single- and double-quoted literals, {@code //} line comments and {@code /* *}{@code /} block comments. */
+    public static final LexerSpec C_LIKE = JSON.withQuote('\'').withLineComment("//").withBlockComment("/*", "*/");
+
+    private final String[] starts;
+    private final String[] ends;
+    private final int[] kinds;
+    private final int escape;
+    private final boolean[] asciiStarts = new boolean[128];
+    private final int maxMarkerLength;
+
+    private LexerSpec(String[] starts, String[] ends, int[] kinds, int escape) {
+        this.starts = starts;
+        this.ends = ends;
+        this.kinds = kinds;
+        this.escape = escape;
+        int max = 1;
+        for (int i = 0; i < starts.length; i++) {
+            char first = starts[i].charAt(0);
+            if (first < asciiStarts.length) {
+                asciiStarts[first] = true;
+            }
+            max = Math.max(max, Math.max(starts[i].length(), ends[i].length()));
+        }
+        this.maxMarkerLength = max;
+    }
+
+    /**
+     * Returns a spec where {@code quote} opens a literal closed by the same char.
+     *
+     * @throws IllegalArgumentException if a literal or comment already starts with this marker
+     */
+    public LexerSpec withQuote(char quote) {
+        return with(String.valueOf(quote), String.valueOf(quote), QUOTE);
+    }
+
+    /**
+     * Returns a spec where {@code escape} makes the next char of a quoted literal ordinary.
+     */
+    public LexerSpec withEscape(char escape) {
+        return new LexerSpec(starts, ends, kinds, escape);
+    }
+
+    /**
+     * Returns a spec where {@code marker} opens a comment closed by the next {@code '\n'}
+     * or by the end of the input.
+     *
+     * @throws IllegalArgumentException if the marker is empty or already used
+     */
+    public LexerSpec withLineComment(String marker) {
+        return with(marker, "\n", LINE_COMMENT);
+    }
+
+    /**
+     * Returns a spec where {@code start} opens a comment closed by {@code end}.
+     * Block comments do not nest.
+     *
+     * @throws IllegalArgumentException if a marker is empty or {@code start} is already used
+     */
+    public LexerSpec withBlockComment(String start, String end) {
+        if (end == null || end.isEmpty()) {
+            throw new IllegalArgumentException("Comment markers must not be empty.");
+        }
+        return with(start, end, BLOCK_COMMENT);
+    }
+
+    private LexerSpec with(String start, String end, int kind) {
+        if (start == null || start.isEmpty()) {
+            throw new IllegalArgumentException("Comment markers must not be empty.");
+        }
+        for (String existing : starts) {
+            if (existing.equals(start)) {
+                throw new IllegalArgumentException("Marker already used: " + start);
+            }
+        }
+        int n = starts.length;
+        String[] newStarts = Arrays.copyOf(starts, n + 1);
+        String[] newEnds = Arrays.copyOf(ends, n + 1);
+        int[] newKinds = Arrays.copyOf(kinds, n + 1);
+        newStarts[n] = start;
+        newEnds[n] = end;
+        newKinds[n] = kind;
+        return new LexerSpec(newStarts, newEnds, newKinds, escape);
+    }
+
+    /**
+     * Returns true if every marker and the escape char are ASCII, which byte-level checkers require.
+     */
+    public boolean isAscii() {
+        if (escape >= 128) {
+            return false;
+        }
+        for (int i = 0; i < starts.length; i++) {
+            if (!isAscii(starts[i]) || !isAscii(ends[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int markerCount() {
+        return starts.length;
+    }
+
+    String start(int marker) {
+        return starts[marker];
+    }
+
+    String end(int marker) {
+        return ends[marker];
+    }
+
+    int kind(int marker) {
+        return kinds[marker];
+    }
+
+    boolean isEscape(char c) {
+        return c == escape;
+    }
+
+    int maxMarkerLength() {
+        return maxMarkerLength;
+    }
+
+    /**
+     * Returns false if no marker starts with {@code c}, which lets code chars skip marker matching.
+     */
+    boolean mayStartMarker(char c) {
+        if (c < asciiStarts.length) {
+            return asciiStarts[c];
+        }
+        for (String start : starts) {
+            if (start.charAt(0) == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("LexerSpec[");
+        for (int i = 0; i < starts.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(starts[i]).append(" ... ").append(kinds[i] == LINE_COMMENT ? "\\n" : ends[i]);
+        }
+        if (escape != NO_ESCAPE) {
+            sb.append(", escape ").append((char) escape);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,178 @@
+package main;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Checks very large inputs on several cores.
+ * The input is split into segments, each segment is reduced to its unmatched
+ * closers followed by its unmatched openers, and adjacent reductions are combined
+ * in a {@link ForkJoinPool}. Inputs no longer than the threshold are scanned
+ * sequentially. The result always equals {@link StringUtils#isBalanced(CharSequence, BracketSpec)}.
+ * The sequence must not be modified while it is being checked.
+ */
+public final class ParallelBalanceChecker {
+
+    public static final int DEFAULT_THRESHOLD = 1 << 17;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final BracketSpec spec;
+
+    /**
+     * Creates a checker running on the common pool with {@link #DEFAULT_THRESHOLD}.
+     */
+    public ParallelBalanceChecker() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool      Pool the segments are reduced in
+     * @param threshold Length under which a segment is scanned sequentially
+     */
+    public ParallelBalanceChecker(ForkJoinPool pool, int threshold) {
+        this(pool, threshold, BracketSpec.DEFAULT);
+    }
+
+    /**
+     * @param pool      Pool the segments are reduced in
+     * @param threshold Length under which a segment is scanned sequentially
+     * @param spec      Grouping symbols to balance
+     */
+    public ParallelBalanceChecker(ForkJoinPool pool, int threshold, BracketSpec spec) {
+        if (pool == null) {
+            throw new NullPointerException("The pool is null.");
+        }
+        if (spec == null) {
+            throw new NullPointerException("The spec is null.");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive.");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+        this.spec = spec;
+    }
+
+    /**
+     * @param seq Sequence to check
+     * @return true if balanced, false otherwise or if {@code seq} is null
+     */
+    public boolean isBalanced(CharSequence seq) {
+        if (seq == null) {
+            return false;
+        }
+        if (seq.length() <= threshold) {
+            return StringUtils.isBalanced(seq, spec);
+        }
+        return pool.invoke(new SummaryTask(seq, 0, seq.length(), threshold, spec)).isBalanced();
+    }
+
+    /**
+     * Reduced form of a segment: closers that no opener of the segment matched,
+     * then openers that no closer of the segment matched, in input order.
+     * Symbols are stored as their pair id, see {@link BracketSpec}.
+     */
+    static final class Summary {
+
+        static final Summary MISMATCH = new Summary(new char[0], new char[0]);
+
+        final char[] closers;
+        final char[] openers;
+
+        Summary(char[] closers, char[] openers) {
+            this.closers = closers;
+            this.openers = openers;
+        }
+
+        boolean isBalanced() {
+            return this != MISMATCH && closers.length == 0 && openers.length == 0;
+        }
+
+        static Summary of(CharSequence seq, int from, int to, BracketSpec spec) {
+            CharStack closers = new CharStack();
+            CharStack openers = new CharStack();
+            for (int i = from; i < to; i++) {
+                int code = spec.code(seq.charAt(i));
+                if (code > 0) {
+                    openers.push((char) code);
+                }
+                else if (code < 0) {
+                    if (openers.isEmpty()) {
+                        closers.push((char) -code);
+                    }
+                    else if (openers.pop() != -code) {
+                        return MISMATCH;
+                    }
+                }
+            }
+            return new Summary(closers.toArray(), openers.toArray());
+        }
+
+        /**
+         * Reduces the concatenation of {@code left} and {@code right}: the closers
+         * of the right part consume the openers of the left part from the innermost one.
+         */
+        static Summary combine(Summary left, Summary right) {
+            if (left == MISMATCH || right == MISMATCH) {
+                return MISMATCH;
+            }
+            int matched = Math.min(left.openers.length, right.closers.length);
+            for (int i = 0; i < matched; i++) {
+                if (left.openers[left.openers.length - 1 - i] != right.closers[i]) {
+                    return MISMATCH;
+                }
+            }
+            char[] closers = concat(left.closers, right.closers, matched, right.closers.length);
+            char[] openers = concat(left.openers, 0, left.openers.length - matched, right.openers);
+            return new Summary(closers, openers);
+        }
+
+        private static char[] concat(char[] head, char[] tail, int tailFrom, int tailTo) {
+            char[] result = Arrays.copyOf(head, head.length + tailTo - tailFrom);
+            System.arraycopy(tail, tailFrom, result, head.length, tailTo - tailFrom);
+            return result;
+        }
+
+        private static char[] concat(char[] head, int headFrom, int headTo, char[] tail) {
+            char[] result = Arrays.copyOfRange(head, headFrom, headTo + tail.length);
+            System.arraycopy(tail, 0, result, headTo - headFrom, tail.length);
+            return result;
+        }
+    }
+
+    @SuppressWarnings("serial") // never serialized, only forked
+    private static final class SummaryTask extends RecursiveTask<Summary> {
+
+        private final CharSequence seq;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final BracketSpec spec;
+
+        SummaryTask(CharSequence seq, int from, int to, int threshold, BracketSpec spec) {
+            this.seq = seq;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.spec = spec;
+        }
+
+        @Override
+        protected Summary compute() {
+            if (to - from <= threshold) {
+                return Summary.of(seq, from, to, spec);
+            }
+            int middle = (from + to) >>> 1;
+            SummaryTask right = new SummaryTask(seq, middle, to, threshold, spec);
+            right.fork();
+            Summary left = new SummaryTask(seq, from, middle, threshold, spec).compute();
+            if (left == Summary.MISMATCH) {
+                right.cancel(false);
+                return Summary.MISMATCH;
+            }
+            return Summary.combine(left, right.join());
+        }
+    }
+}
@@ -1,40 +1,294 @@
 package main;
 
-import java.util.Stack;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 public class StringUtils {
 
+    /** Scratch stacks larger than this are dropped rather than kept by the thread. */
+    static final int MAX_RETAINED_STACK = 1 << 16;
+
+    static final ThreadLocal<CharStack> SCRATCH_STACK = ThreadLocal.withInitial(CharStack::new);
+
+    static final ThreadLocal<Lexer> SCRATCH_LEXER = ThreadLocal.withInitial(() -> new Lexer(LexerSpec.NONE));
+
+    /**
+     * Set the {@code main.StringUtils.scalar} system property to {@code true} to route
+     * {@code isBalanced} through {@link #isBalancedScalar(CharSequence)}, for comparison.
+     */
+    static final boolean FORCE_SCALAR = Boolean.getBoolean("main.StringUtils.scalar");
+
     private StringUtils() {}
 
     public static boolean isBalanced(String str) {
-        if (str == null) {
+        return isBalanced((CharSequence) str);
+    }
+
+    /**
+     * Checks that every grouping symbol of the sequence is closed in the right order.
+     * The sequence is read in place, so {@link StringBuilder} or {@link java.nio.CharBuffer}
+     * contents are validated without being copied.
+     * Chars are classified with a single table load, see {@link BracketSpec#DEFAULT}.
+     *
+     * @param seq Sequence to check
+     * @return true if balanced, false otherwise or if {@code seq} is null
+     */
+    public static boolean isBalanced(CharSequence seq) {
+        if (FORCE_SCALAR) {
+            return isBalancedScalar(seq);
+        }
+        return isBalanced(seq, BracketSpec.DEFAULT);
+    }
+
+    /**
+     * Checks the sequence against the pairs of the given spec in a single pass.
+     *
+     * @param seq  Sequence to check
+     * @param spec Grouping symbols to balance
+     * @return true if balanced, false otherwise or if {@code seq} is null
+     */
+    public static boolean isBalanced(CharSequence seq, BracketSpec spec) {
+        if (seq == null) {
             return false;
         }
 
-        Stack<Character> stack = new Stack<>();
-        for (char c : str.toCharArray()) {
-            if (c == '(' || c == '{' || c == '[') {
-                stack.push(c);
-            }
-            else if (c == ')' || c == '}' || c == ']') {
-                if (stack.isEmpty()) {
+        CharStack stack = SCRATCH_STACK.get();
+        try {
+            return spec.isBalanced(seq, stack);
+        }
+        finally {
+            stack.reset(MAX_RETAINED_STACK);
+        }
+    }
+
+    /**
+     * Checks the sequence like {@link #isBalanced(CharSequence)} and describes the outcome
+     * in {@code report}, which can be reused across calls.
+     *
+     * @param seq    Sequence to check
+     * @param report Holder overwritten with the outcome
+     * @return true if balanced, false otherwise or if {@code seq} is null
+     */
+    public static boolean check(CharSequence seq, BalanceReport report) {
+        return check(seq, BracketSpec.DEFAULT, report);
+    }
+
+    /**
+     * Same as {@link #check(CharSequence, BalanceReport)} with the pairs of the given spec.
+     */
+    public static boolean check(CharSequence seq, BracketSpec spec, BalanceReport report) {
+        if (seq == null) {
+            report.fail(-1, BalanceReport.NONE, BalanceReport.NONE, 0, 0);
+            return false;
+        }
+
+        CharStack stack = SCRATCH_STACK.get();
+        try {
+            return spec.check(seq, stack, report);
+        }
+        finally {
+            stack.reset(MAX_RETAINED_STACK);
+        }
+    }
+
+    /**
+     * Checks the sequence against the pairs of the given spec, ignoring the grouping
+     * symbols found inside the literals and comments described by {@code lexer}.
+     * An unterminated literal or block comment makes the sequence unbalanced.
+     *
+     * @param seq   Sequence to check
+     * @param spec  Grouping symbols to balance
+     * @param lexer Literals and comments to skip
+     * @return true if balanced, false otherwise or if {@code seq} is null
+     */
+    public static boolean isBalanced(CharSequence seq, BracketSpec spec, LexerSpec lexer) {
+        if (seq == null) {
+            return false;
+        }
+
+        Lexer state = SCRATCH_LEXER.get();
+        state.reset(lexer);
+        CharStack stack = SCRATCH_STACK.get();
+        try {
+            int length = seq.length();
+            for (int i = 0; i < length; i++) {
+                if (!state.accept(seq.charAt(i), spec, stack)) {
                     return false;
                 }
-                char top = stack.pop();
-                if (!isMatchingPair(top, c)) {
+            }
+            return state.finish(spec, stack) && stack.isEmpty();
+        }
+        finally {
+            stack.reset(MAX_RETAINED_STACK);
+        }
+    }
+
+    /**
+     * Checks the {@code length} chars of {@code chars} starting at {@code offset}.
+     *
+     * @param chars  Buffer holding the text
+     * @param offset Index of the first char to check
+     * @param length Number of chars to check
+     * @return true if the range is balanced, false otherwise or if {@code chars} is null
+     * @throws IndexOutOfBoundsException if the range lies outside the array
+     */
+    public static boolean isBalanced(char[] chars, int offset, int length) {
+        return isBalanced(chars, offset, length, BracketSpec.DEFAULT);
+    }
+
+    /**
+     * Same as {@link #isBalanced(char[], int, int)} with the pairs of the given spec.
+     *
+     * @throws IndexOutOfBoundsException if the range lies outside the array
+     */
+    public static boolean isBalanced(char[] chars, int offset, int length, BracketSpec spec) {
+        if (chars == null) {
+            return false;
+        }
+        Objects.checkFromIndexSize(offset, length, chars.length);
+
+        CharStack stack = SCRATCH_STACK.get();
+        try {
+            int end = offset + length;
+            if (FORCE_SCALAR && spec == BracketSpec.DEFAULT) {
+                for (int i = offset; i < end; i++) {
+                    if (!acceptScalar(stack, chars[i])) {
+                        return false;
+                    }
+                }
+                return stack.isEmpty();
+            }
+            return spec.isBalanced(chars, offset, end, stack);
+        }
+        finally {
+            stack.reset(MAX_RETAINED_STACK);
+        }
+    }
+
+    /**
+     * Checks {@code length} bytes of UTF-8 text starting at {@code offset}, without decoding them.
+     * Every grouping symbol is a single ASCII byte and the bytes of multi-byte sequences
+     * are all above 0x7F, so those are skipped with the other chars. The result is the one
+     * {@link #isBalanced(String)} gives on the decoded text, for any valid UTF-8 input.
+     *
+     * @param bytes  Buffer holding the UTF-8 text
+     * @param offset Index of the first byte to check
+     * @param length Number of bytes to check
+     * @return true if the range is balanced, false otherwise or if {@code bytes} is null
+     * @throws IndexOutOfBoundsException if the range lies outside the array
+     */
+    public static boolean isBalancedUtf8(byte[] bytes, int offset, int length) {
+        return isBalancedUtf8(bytes, offset, length, BracketSpec.DEFAULT);
+    }
+
+    /**
+     * Same as {@link #isBalancedUtf8(byte[], int, int)} with the pairs of the given spec.
+     *
+     * @throws IllegalArgumentException if the spec has non-ASCII symbols
+     * @throws IndexOutOfBoundsException if the range lies outside the array
+     */
+    public static boolean isBalancedUtf8(byte[] bytes, int offset, int length, BracketSpec spec) {
+        requireAscii(spec);
+        if (bytes == null) {
+            return false;
+        }
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+
+        CharStack stack = SCRATCH_STACK.get();
+        try {
+            return spec.isBalancedUtf8(bytes, offset, offset + length, stack);
+        }
+        finally {
+            stack.reset(MAX_RETAINED_STACK);
+        }
+    }
+
+    /**
+     * Checks the UTF-8 text between the position and the limit of a heap or direct buffer,
+     * without decoding it nor moving its position.
+     *
+     * @param buffer Buffer holding the UTF-8 text
+     * @return true if balanced, false otherwise or if {@code buffer} is null
+     */
+    public static boolean isBalancedUtf8(ByteBuffer buffer) {
+        return isBalancedUtf8(buffer, BracketSpec.DEFAULT);
+    }
+
+    /**
+     * Same as {@link #isBalancedUtf8(ByteBuffer)} with the pairs of the given spec.
+     *
+     * @throws IllegalArgumentException if the spec has non-ASCII symbols
+     */
+    public static boolean isBalancedUtf8(ByteBuffer buffer, BracketSpec spec) {
+        requireAscii(spec);
+        if (buffer == null) {
+            return false;
+        }
+
+        CharStack stack = SCRATCH_STACK.get();
+        try {
+            if (buffer.hasArray()) {
+                int start = buffer.arrayOffset() + buffer.position();
+                return spec.isBalancedUtf8(buffer.array(), start, start + buffer.remaining(), stack);
+            }
+            return spec.isBalancedUtf8(buffer, buffer.position(), buffer.limit(), stack);
+        }
+        finally {
+            stack.reset(MAX_RETAINED_STACK);
+        }
+    }
+
+    private static void requireAscii(BracketSpec spec) {
+        if (!spec.isAscii()) {
+            throw new IllegalArgumentException("Byte input requires ASCII grouping symbols: " + spec);
+        }
+    }
+
+    /**
+     * Reference implementation testing every char against each grouping symbol in turn.
+     * Gives the same answers as {@link #isBalanced(CharSequence)}.
+     *
+     * @param seq Sequence to check
+     * @return true if balanced, false otherwise or if {@code seq} is null
+     */
+    public static boolean isBalancedScalar(CharSequence seq) {
+        if (seq == null) {
+            return false;
+        }
+
+        CharStack stack = SCRATCH_STACK.get();
+        try {
+            int length = seq.length();
+            for (int i = 0; i < length; i++) {
+                if (!acceptScalar(stack, seq.charAt(i))) {
                     return false;
                 }
             }
-            else {
-                continue;
+            return stack.isEmpty();
+        }
+        finally {
+            stack.reset(MAX_RETAINED_STACK);
+        }
+    }
+
+    private static boolean acceptScalar(CharStack stack, char c) {
+        if (c == '(' || c == '{' || c == '[') {
+            stack.push(c);
+        }
+        else if (c == ')' || c == '}' || c == ']') {
+            if (stack.isEmpty()) {
+                return false;
             }
+            char top = stack.pop();
+            return isMatchingPair(top, c);
         }
-        return stack.isEmpty();
+        return true;
     }
-    private static boolean isMatchingPair(char open, char close) {
+
+    static boolean isMatchingPair(char open, char close) {
         return (open == '(' && close == ')') ||
                 (open == '{' && close == '}') ||
                 (open == '[' && close == ']');
     }
 
-}
\ No newline at end of file
+}
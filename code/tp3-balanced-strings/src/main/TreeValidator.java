@@ -0,0 +1,300 @@
+package main;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Checks every UTF-8 file of a directory tree.
+ * One thread walks the tree and hands paths to a fixed number of workers through a
+ * bounded queue; each worker streams its files through a single reusable direct buffer
+ * and {@link BalanceChecker}, so memory use does not depend on file sizes.
+ *
+ * <p>Usage: {@code java main.TreeValidator <root> [threads] [glob]}. The report is
+ * written to the standard output as tab-separated lines, see {@link Report#write(PrintStream)}.
+ * The exit status is 0 if every file is balanced, 1 otherwise and 2 on usage errors.
+ */
+public final class TreeValidator {
+
+    static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private static final Path END_OF_WALK = Paths.get("");
+
+    public enum Status { BALANCED, UNBALANCED, ERROR }
+
+    private final int threads;
+    private final BracketSpec spec;
+    private final PathMatcher filter;
+
+    /**
+     * Creates a validator checking every regular file with the default pairs.
+     *
+     * @param threads Number of workers reading and checking files
+     */
+    public TreeValidator(int threads) {
+        this(threads, BracketSpec.DEFAULT, path -> true);
+    }
+
+    /**
+     * @param threads Number of workers reading and checking files
+     * @param spec    Grouping symbols to balance; must be ASCII
+     * @param filter  Files to check, matched against their path relative to the root
+     */
+    public TreeValidator(int threads, BracketSpec spec, PathMatcher filter) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive.");
+        }
+        if (!spec.isAscii()) {
+            throw new IllegalArgumentException("Byte input requires ASCII grouping symbols: " + spec);
+        }
+        this.threads = threads;
+        this.spec = spec;
+        this.filter = filter;
+    }
+
+    /**
+     * Walks {@code root} and checks every matching regular file.
+     *
+     * @param root Directory to walk
+     * @return the per-file outcomes, sorted by path, with totals
+     * @throws IOException if the root cannot be walked or the walk is interrupted
+     */
+    public Report validate(Path root) throws IOException {
+        long startNanos = System.nanoTime();
+        BlockingQueue<Path> queue = new ArrayBlockingQueue<>(threads * 64);
+        ConcurrentLinkedQueue<FileResult> results = new ConcurrentLinkedQueue<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> work(root, queue, results), "tree-validator-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+
+        try {
+            try {
+                walk(root, queue, results);
+            }
+            finally {
+                for (int i = 0; i < threads; i++) {
+                    queue.put(END_OF_WALK);
+                }
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        }
+        catch (InterruptedException e) {
+            workers.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Validation interrupted.");
+        }
+
+        List<FileResult> sorted = new ArrayList<>(results);
+        sorted.sort((a, b) -> a.path().compareTo(b.path()));
+        return new Report(Collections.unmodifiableList(sorted), System.nanoTime() - startNanos);
+    }
+
+    private void walk(Path root, BlockingQueue<Path> queue, ConcurrentLinkedQueue<FileResult> results)
+            throws IOException, InterruptedException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (attributes.isRegularFile() && filter.matches(root.relativize(file))) {
+                    try {
+                        queue.put(file);
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return FileVisitResult.TERMINATE;
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                results.add(new FileResult(root.relativize(file), Status.ERROR, 0, String.valueOf(e.getMessage())));
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private void work(Path root, BlockingQueue<Path> queue, ConcurrentLinkedQueue<FileResult> results) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        BalanceChecker checker = new BalanceChecker(spec);
+        try {
+            Path file;
+            while ((file = queue.take()) != END_OF_WALK) {
+                results.add(check(root, file, buffer, checker));
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static FileResult check(Path root, Path file, ByteBuffer buffer, BalanceChecker checker) {
+        Path relative = root.relativize(file);
+        checker.reset();
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int read;
+            buffer.clear();
+            while (!checker.hasFailed() && (read = channel.read(buffer)) != -1) {
+                size += read;
+                buffer.flip();
+                checker.feedUtf8(buffer);
+                buffer.clear();
+            }
+            size = Math.max(size, channel.size());
+        }
+        catch (IOException e) {
+            return new FileResult(relative, Status.ERROR, size, String.valueOf(e.getMessage()));
+        }
+        return new FileResult(relative, checker.finish() ? Status.BALANCED : Status.UNBALANCED, size, null);
+    }
+
+    /**
+     * Outcome for one file.
+     */
+    public static final class FileResult {
+
+        private final Path path;
+        private final Status status;
+        private final long size;
+        private final String error;
+
+        FileResult(Path path, Status status, long size, String error) {
+            this.path = path;
+            this.status = status;
+            this.size = size;
+            this.error = error;
+        }
+
+        /** Returns the path relative to the walked root. */
+        public Path path() {
+            return path;
+        }
+
+        public Status status() {
+            return status;
+        }
+
+        /** Returns the file size in bytes. */
+        public long size() {
+            return size;
+        }
+
+        /** Returns the I/O error message, or null if the file could be read. */
+        public String error() {
+            return error;
+        }
+    }
+
+    /**
+     * Per-file outcomes of a walk and their totals.
+     */
+    public static final class Report {
+
+        private final List<FileResult> files;
+        private final long elapsedNanos;
+
+        Report(List<FileResult> files, long elapsedNanos) {
+            this.files = files;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** Returns the outcomes sorted by path. */
+        public List<FileResult> files() {
+            return files;
+        }
+
+        public long count(Status status) {
+            return files.stream().filter(file -> file.status() == status).count();
+        }
+
+        public long totalBytes() {
+            return files.stream().mapToLong(FileResult::size).sum();
+        }
+
+        public long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns true if every file was read and found balanced.
+         */
+        public boolean isAllBalanced() {
+            return count(Status.BALANCED) == files.size();
+        }
+
+        /**
+         * Writes one {@code STATUS<TAB>bytes<TAB>path[<TAB>error]} line per file, then a
+         * {@code TOTAL} line of {@code key=value} fields.
+         */
+        public void write(PrintStream out) {
+            StringBuilder line = new StringBuilder();
+            for (FileResult file : files) {
+                line.setLength(0);
+                line.append(file.status()).append('\t').append(file.size()).append('\t').append(file.path());
+                if (file.error() != null) {
+                    line.append('\t').append(file.error().replace('\t', ' ').replace('\n', ' '));
+                }
+                out.println(line);
+            }
+            out.println("TOTAL\tfiles=" + files.size()
+                    + "\tbalanced=" + count(Status.BALANCED)
+                    + "\tunbalanced=" + count(Status.UNBALANCED)
+                    + "\terrors=" + count(Status.ERROR)
+                    + "\tbytes=" + totalBytes()
+                    + "\tmillis=" + elapsedNanos / 1_000_000);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("Usage: java main.TreeValidator <root> [threads] [glob]");
+            System.exit(2);
+        }
+        TreeValidator validator = null;
+        try {
+            int threads = Runtime.getRuntime().availableProcessors();
+            PathMatcher filter = path -> true;
+            if (args.length > 1) {
+                threads = Integer.parseInt(args[1]);
+            }
+            if (args.length > 2) {
+                filter = FileSystems.getDefault().getPathMatcher("glob:" + args[2]);
+            }
+            validator = new TreeValidator(threads, BracketSpec.DEFAULT, filter);
+        }
+        catch (IllegalArgumentException e) {
+            System.err.println("Invalid argument: " + e.getMessage());
+            System.exit(2);
+        }
+        Report report = validator.validate(Paths.get(args[0]));
+        report.write(System.out);
+        System.exit(report.isAllBalanced() ? 0 : 1);
+    }
+}
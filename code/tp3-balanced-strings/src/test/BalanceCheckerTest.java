@@ -0,0 +1,115 @@
+package test;
+
+import main.BalanceChecker;
+import main.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceCheckerTest {
+
+    private static final String[] SAMPLES = {
+            "", "abc", "()[]{}", "{[()]}", "{a[b(c)d]e}", "([)]", "(((", ")))", "{[}(])}", "({})(", "x(y)z]"
+    };
+
+    // Test 1 : Même résultat que la méthode en une passe, caractère par caractère
+    @Test
+    void testFeedCharByCharMatchesOneShot() {
+        for (String sample : SAMPLES) {
+            BalanceChecker checker = new BalanceChecker();
+            for (char c : sample.toCharArray()) {
+                checker.feed(c);
+            }
+            assertEquals(StringUtils.isBalanced(sample), checker.finish(), sample);
+        }
+    }
+
+    // Test 2 : Découpage arbitraire de l'entrée en morceaux
+    @Test
+    void testFeedChunksMatchesOneShot() {
+        for (String sample : SAMPLES) {
+            for (int cut = 0; cut <= sample.length(); cut++) {
+                BalanceChecker checker = new BalanceChecker();
+                checker.feed(sample.substring(0, cut));
+                char[] rest = sample.substring(cut).toCharArray();
+                checker.feed(rest, 0, rest.length);
+                assertEquals(StringUtils.isBalanced(sample), checker.finish(), sample + " coupé en " + cut);
+            }
+        }
+    }
+
+    // Test 3 : État intermédiaire et échec définitif
+    @Test
+    void testIntermediateState() {
+        BalanceChecker checker = new BalanceChecker();
+        checker.feed("({");
+        assertFalse(checker.isBalancedSoFar());
+        assertFalse(checker.hasFailed());
+        assertEquals(2, checker.depth());
+        checker.feed("})");
+        assertTrue(checker.isBalancedSoFar());
+        checker.feed("]");
+        assertTrue(checker.hasFailed());
+        checker.feed("[]");
+        assertFalse(checker.finish(), "Un échec ne doit pas être effacé par la suite de l'entrée.");
+        checker.reset();
+        assertTrue(checker.isBalancedSoFar(), "Le checker doit être réutilisable après reset.");
+    }
+
+    // Test 4 : Lecture d'un Reader plus grand que le tampon interne
+    @Test
+    void testCheckReader() throws IOException {
+        String text = "(".repeat(20_000) + "x".repeat(30_000) + ")".repeat(20_000);
+        assertTrue(BalanceChecker.check(new StringReader(text)));
+        assertFalse(BalanceChecker.check(new StringReader(text + "]")));
+    }
+
+    // Test 5 : Lecture d'un InputStream et d'un canal NIO
+    @Test
+    void testCheckStreamAndChannel() throws IOException {
+        byte[] bytes = "{\"clé\": [1, (2), «3»]}".getBytes(StandardCharsets.UTF_8);
+        assertTrue(BalanceChecker.check(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+        assertTrue(BalanceChecker.check(Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8));
+        byte[] broken = "{[}]".getBytes(StandardCharsets.UTF_8);
+        assertFalse(BalanceChecker.check(Channels.newChannel(new ByteArrayInputStream(broken)), StandardCharsets.UTF_8));
+    }
+
+    // Test 6 : Octets UTF-8 multi-octets ignorés, même coupés entre deux tampons
+    @Test
+    void testFeedUtf8SplitSequences() {
+        byte[] bytes = "«(é)»[€]".getBytes(StandardCharsets.UTF_8);
+        for (int cut = 0; cut <= bytes.length; cut++) {
+            BalanceChecker checker = new BalanceChecker();
+            checker.feedUtf8(ByteBuffer.wrap(bytes, 0, cut));
+            checker.feedUtf8(ByteBuffer.wrap(bytes, cut, bytes.length - cut));
+            assertTrue(checker.finish(), "coupé en " + cut);
+        }
+    }
+
+    // Test 7 : Fichier projeté en mémoire, par fenêtres plus petites que le fichier
+    @Test
+    void testCheckFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("template.txt");
+        String text = "{ \"données\": [" + "(ü)".repeat(1000) + "] }";
+        Files.writeString(file, text);
+        assertEquals(StringUtils.isBalanced(Files.readString(file)), BalanceChecker.checkFile(file));
+        assertTrue(BalanceChecker.checkFile(file, 7));
+
+        Files.writeString(file, text + "]");
+        assertFalse(BalanceChecker.checkFile(file, 7));
+
+        Path empty = Files.createFile(dir.resolve("empty.txt"));
+        assertTrue(BalanceChecker.checkFile(empty));
+        assertThrows(IllegalArgumentException.class, () -> BalanceChecker.checkFile(file, 0));
+    }
+}
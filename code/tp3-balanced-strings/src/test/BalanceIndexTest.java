@@ -0,0 +1,145 @@
+package test;
+
+import main.BalanceIndex;
+import main.BracketSpec;
+import main.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceIndexTest {
+
+    /** Offset where a sequential scan stops, as documented by BalanceIndex.firstMismatch(). */
+    private static int referenceMismatch(String text) {
+        Deque<Character> stack = new ArrayDeque<>();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(' || c == '[' || c == '{') {
+                stack.push(c);
+            }
+            else if (c == ')' || c == ']' || c == '}') {
+                if (stack.isEmpty() || !BracketSpec.DEFAULT.matches(stack.pop(), c)) {
+                    return i;
+                }
+            }
+        }
+        return stack.isEmpty() ? -1 : text.length();
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append("(((){}[]]]}xyz".charAt(random.nextInt(14)));
+        }
+        return sb.toString();
+    }
+
+    private static void assertConsistent(BalanceIndex index, String expected) {
+        assertEquals(expected, index.toString());
+        assertEquals(expected.length(), index.length());
+        assertEquals(StringUtils.isBalanced(expected), index.isBalanced());
+        assertEquals(referenceMismatch(expected), index.firstMismatch());
+    }
+
+    // Test 1 : Éditions aléatoires comparées à une reconstruction complète
+    @Test
+    void testRandomEditsAgreeWithFullScan() {
+        Random random = new Random(99);
+        StringBuilder text = new StringBuilder(randomText(random, 3000));
+        BalanceIndex index = new BalanceIndex(text);
+        assertConsistent(index, text.toString());
+        for (int n = 0; n < 1500; n++) {
+            int start = random.nextInt(text.length() + 1);
+            int end = Math.min(text.length(), start + random.nextInt(random.nextBoolean() ? 3 : 900));
+            String insert = randomText(random, random.nextInt(random.nextBoolean() ? 2 : 700));
+            index.replace(start, end, insert);
+            text.replace(start, end, insert);
+            assertConsistent(index, text.toString());
+        }
+    }
+
+    // Test 2 : Document équilibré, profondément imbriqué, édité caractère par caractère
+    @Test
+    void testKeystrokesOnNestedDocument() {
+        String doc = "{".repeat(2000) + "[x]".repeat(500) + "}".repeat(2000);
+        BalanceIndex index = new BalanceIndex(doc);
+        assertTrue(index.isBalanced());
+
+        index.insert(2000, "(");
+        assertEquals(3501, index.firstMismatch(), "Le premier '}' rencontre la parenthèse ouvrante.");
+        index.insert(3501, ")");
+        assertTrue(index.isBalanced());
+        index.insert(2101, "(");
+        assertEquals(2103, index.firstMismatch(), "Le ']' suivant rencontre la parenthèse ouvrante.");
+        index.delete(2101, 2102);
+        index.delete(0, 1);
+        assertEquals(index.length(), index.firstMismatch() + 1, "Seule la dernière accolade est en trop.");
+        index.insert(0, "{");
+        assertTrue(index.isBalanced());
+    }
+
+    // Test 3 : Index vide, ajout en fin et suppression totale
+    @Test
+    void testEmptyIndexAndBounds() {
+        BalanceIndex index = new BalanceIndex();
+        assertTrue(index.isBalanced());
+        assertEquals(-1, index.firstMismatch());
+        index.insert(0, "(");
+        assertEquals(1, index.firstMismatch());
+        assertEquals(1, index.unclosedCount());
+        index.insert(1, ")");
+        assertTrue(index.isBalanced());
+        index.delete(0, 2);
+        assertEquals("", index.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> index.insert(1, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.delete(0, 1));
+    }
+
+    // Test 4 : Alphabet configurable
+    @Test
+    void testCustomSpec() {
+        BalanceIndex index = new BalanceIndex("<a<b>>", BracketSpec.of("<>"));
+        assertTrue(index.isBalanced());
+        index.replace(5, 6, ")");
+        assertFalse(index.isBalanced());
+        assertEquals(6, index.firstMismatch());
+    }
+
+    /** Nodes visited by the index so far, read from its private counter. */
+    private static long work(BalanceIndex index) throws ReflectiveOperationException {
+        Field field = BalanceIndex.class.getDeclaredField("work");
+        field.setAccessible(true);
+        return field.getLong(index);
+    }
+
+    // Test 5 : Document d'un million d'ouvrantes non fermées, coût borné par édition
+    @Test
+    void testKeystrokesOnOneSidedDocument() throws ReflectiveOperationException {
+        int length = 1_000_000;
+        BalanceIndex index = new BalanceIndex("[".repeat(length / 2) + "(".repeat(length / 2));
+        assertEquals(length, index.unclosedCount());
+        Random random = new Random(5);
+        long maxWork = 0;
+        for (int n = 0; n < 500; n++) {
+            int offset = random.nextInt(length);
+            long before = work(index);
+            index.insert(offset, "x");
+            assertEquals(index.length(), index.firstMismatch());
+            index.delete(offset, offset + 1);
+            maxWork = Math.max(maxWork, work(index) - before);
+        }
+        // Environ 2000 blocs : une mise à jour linéaire visiterait des centaines de milliers de symboles.
+        assertTrue(maxWork < 5_000, "Travail maximal par édition : " + maxWork);
+
+        index.insert(length / 2, "}");
+        assertEquals(length / 2, index.firstMismatch(), "L'accolade rencontre un crochet ouvrant.");
+        index.replace(length / 2, length / 2 + 1, "]");
+        assertEquals(length - 1, index.unclosedCount());
+        assertEquals(length + 1, index.firstMismatch());
+    }
+}
@@ -0,0 +1,82 @@
+package test;
+
+import main.BalanceReport;
+import main.BracketSpec;
+import main.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static main.StringUtils.check;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceReportTest {
+
+    private final BalanceReport report = new BalanceReport();
+
+    // Test 1 : Chaîne équilibrée avec profondeur maximale
+    @Test
+    void testBalancedReport() {
+        assertTrue(check("a{b[c(d)]}()", report));
+        assertTrue(report.isBalanced());
+        assertEquals(-1, report.offset());
+        assertEquals(3, report.maxDepth());
+        assertEquals(0, report.unclosedCount());
+        assertEquals(BalanceReport.NONE, report.found());
+    }
+
+    // Test 2 : Fermeture de mauvais type
+    @Test
+    void testWrongCloser() {
+        assertFalse(check("{[(])}", report));
+        assertEquals(3, report.offset());
+        assertEquals(')', report.expected());
+        assertEquals(']', report.found());
+        assertEquals(3, report.maxDepth());
+        assertEquals(3, report.unclosedCount());
+    }
+
+    // Test 3 : Fermeture sans ouverture et ouvertures non fermées
+    @Test
+    void testMissingOpenerAndUnclosedOpeners() {
+        assertFalse(check("()}", report));
+        assertEquals(2, report.offset());
+        assertEquals(BalanceReport.NONE, report.expected());
+        assertEquals('}', report.found());
+        assertEquals(0, report.unclosedCount());
+
+        assertFalse(check("({[]", report));
+        assertEquals(4, report.offset());
+        assertEquals('}', report.expected());
+        assertEquals(BalanceReport.NONE, report.found());
+        assertEquals(2, report.unclosedCount());
+        assertTrue(report.toString().contains("end of input"));
+    }
+
+    // Test 4 : Même verdict que isBalanced, réutilisation du même rapport
+    @Test
+    void testAgreesWithIsBalanced() {
+        Random random = new Random(5);
+        for (int n = 0; n < 3000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int i = 0; i < length; i++) {
+                sb.append("()[]{}x".charAt(random.nextInt(7)));
+            }
+            String text = sb.toString();
+            assertEquals(StringUtils.isBalanced(text), check(text, report), text);
+            assertEquals(report.isBalanced(), report.offset() < 0, text);
+        }
+    }
+
+    // Test 5 : Spécification personnalisée et entrée null
+    @Test
+    void testCustomSpecAndNull() {
+        assertFalse(check("«<»", BracketSpec.of("<>«»"), report));
+        assertEquals('>', report.expected());
+        assertEquals('»', report.found());
+        assertFalse(check(null, report));
+        assertEquals(-1, report.offset());
+        assertFalse(report.isBalanced());
+    }
+}
@@ -0,0 +1,88 @@
+package test;
+
+import main.BatchBalanceChecker;
+import main.BracketSpec;
+import main.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchBalanceCheckerTest {
+
+    private static List<String> randomInputs(int count) {
+        Random random = new Random(11);
+        List<String> inputs = new ArrayList<>();
+        for (int n = 0; n < count; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int i = 0; i < length; i++) {
+                sb.append("()[]{}x".charAt(random.nextInt(7)));
+            }
+            inputs.add(sb.toString());
+        }
+        return inputs;
+    }
+
+    private static void assertMatchesOneShot(List<String> inputs, BitSet results) {
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(StringUtils.isBalanced(inputs.get(i)), results.get(i), inputs.get(i));
+        }
+    }
+
+    // Test 1 : Liste traitée séquentiellement
+    @Test
+    void testCheckList() {
+        List<String> inputs = randomInputs(3000);
+        assertMatchesOneShot(inputs, BatchBalanceChecker.check(inputs));
+    }
+
+    // Test 2 : Tableau avec des éléments null
+    @Test
+    void testCheckArrayWithNulls() {
+        boolean[] results = BatchBalanceChecker.check(new CharSequence[]{"()", null, "(]", new StringBuilder("{[]}")});
+        assertArrayEquals(new boolean[]{true, false, false, true}, results);
+    }
+
+    // Test 3 : Répartition sur un exécuteur avec des tranches de petite taille
+    @Test
+    void testCheckOnExecutor() {
+        List<String> inputs = randomInputs(5000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertMatchesOneShot(inputs, BatchBalanceChecker.check(inputs, executor, 37));
+            assertMatchesOneShot(inputs, BatchBalanceChecker.check(inputs, executor));
+            assertTrue(BatchBalanceChecker.check(List.of(), executor).isEmpty());
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> BatchBalanceChecker.check(inputs, Runnable::run, 0));
+    }
+
+    // Test 4 : Liste chaînée et alphabet configurable
+    @Test
+    void testLinkedListAndCustomSpec() {
+        List<String> inputs = randomInputs(50_000);
+        assertMatchesOneShot(inputs, BatchBalanceChecker.check(new LinkedList<>(inputs)));
+        assertMatchesOneShot(inputs, BatchBalanceChecker.check(new LinkedList<>(inputs), Runnable::run, 100));
+
+        BracketSpec angles = BracketSpec.of("<>");
+        List<String> tags = List.of("<a<b>>", "(]", "<<>", "x>");
+        BitSet results = BatchBalanceChecker.check(new LinkedList<>(tags), angles);
+        assertEquals(results, BatchBalanceChecker.check(tags, angles, Runnable::run, 1));
+        assertTrue(results.get(0));
+        assertTrue(results.get(1), "Les parenthèses ne font pas partie de l'alphabet.");
+        assertFalse(results.get(2));
+        assertFalse(results.get(3));
+        assertArrayEquals(new boolean[]{true, true, false}, BatchBalanceChecker.check(new CharSequence[]{"<>", "(]", "<"}, angles));
+        assertThrows(NullPointerException.class, () -> BatchBalanceChecker.check(tags, (BracketSpec) null));
+    }
+}
@@ -0,0 +1,86 @@
+package test;
+
+import main.BalanceChecker;
+import main.BracketSpec;
+import main.ParallelBalanceChecker;
+import main.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BracketSpecTest {
+
+    private static final BracketSpec EXTENDED = BracketSpec.DEFAULT.with("<>«»");
+
+    // Test 1 : La spécification par défaut correspond aux paires historiques
+    @Test
+    void testDefaultSpecMatchesHistoricalPairs() {
+        String symbols = "(){}[]";
+        for (char open : symbols.toCharArray()) {
+            for (char close : symbols.toCharArray()) {
+                boolean expected = (open == '(' && close == ')') || (open == '{' && close == '}') || (open == '[' && close == ']');
+                assertEquals(expected, BracketSpec.DEFAULT.matches(open, close), open + " " + close);
+            }
+        }
+        assertTrue(BracketSpec.DEFAULT.isOpener('('));
+        assertTrue(BracketSpec.DEFAULT.isCloser(']'));
+        assertFalse(BracketSpec.DEFAULT.isOpener('<'));
+        assertTrue(BracketSpec.DEFAULT.isAscii());
+    }
+
+    // Test 2 : Alphabet étendu en une seule passe
+    @Test
+    void testExtendedAlphabet() {
+        assertTrue(StringUtils.isBalanced("<a>{«b»[c]}", EXTENDED));
+        assertFalse(StringUtils.isBalanced("<a{>}", EXTENDED));
+        assertFalse(StringUtils.isBalanced("«(»)", EXTENDED));
+        assertTrue(StringUtils.isBalanced("«(»)", BracketSpec.of("()")), "Les symboles hors spécification sont ignorés.");
+        char[] chars = "xx<«»>xx".toCharArray();
+        assertTrue(StringUtils.isBalanced(chars, 2, 4, EXTENDED));
+        assertFalse(EXTENDED.isAscii());
+    }
+
+    // Test 3 : Délimiteurs de gabarit personnalisés, y compris identiques à ceux par défaut
+    @Test
+    void testCustomDelimiters() {
+        BracketSpec template = BracketSpec.of("$#");
+        assertTrue(StringUtils.isBalanced("$name# and $$nested##", template));
+        assertFalse(StringUtils.isBalanced("$name", template));
+        assertEquals(BracketSpec.of("(){}[]"), BracketSpec.DEFAULT);
+        assertEquals("$#", template.pairs());
+    }
+
+    // Test 4 : Spécifications invalides
+    @Test
+    void testInvalidSpecs() {
+        assertThrows(IllegalArgumentException.class, () -> BracketSpec.of(""));
+        assertThrows(IllegalArgumentException.class, () -> BracketSpec.of("(()"));
+        assertThrows(IllegalArgumentException.class, () -> BracketSpec.of("||"));
+        assertThrows(IllegalArgumentException.class, () -> BracketSpec.of("()(]"));
+        assertThrows(IllegalArgumentException.class, () -> BracketSpec.DEFAULT.with("<("));
+    }
+
+    // Test 5 : Checker incrémental et checker parallèle avec une spécification
+    @Test
+    void testCheckersAcceptSpec() {
+        BalanceChecker checker = new BalanceChecker(EXTENDED);
+        assertTrue(checker.feed("«<").feed(">»").finish());
+        assertThrows(IllegalArgumentException.class, () -> checker.feedUtf8(ByteBuffer.allocate(1)));
+
+        ParallelBalanceChecker parallel = new ParallelBalanceChecker(ForkJoinPool.commonPool(), 2, EXTENDED);
+        Random random = new Random(3);
+        for (int n = 0; n < 2000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int i = 0; i < length; i++) {
+                sb.append("()<>«»x".charAt(random.nextInt(7)));
+            }
+            String text = sb.toString();
+            assertEquals(StringUtils.isBalanced(text, EXTENDED), parallel.isBalanced(text), text);
+        }
+    }
+}
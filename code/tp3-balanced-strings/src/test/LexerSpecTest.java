@@ -0,0 +1,148 @@
+package test;
+
+import main.BalanceChecker;
+import main.BracketSpec;
+import main.LexerSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static main.StringUtils.isBalanced;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LexerSpecTest {
+
+    private static final BracketSpec BRACKETS = BracketSpec.DEFAULT;
+
+    private static boolean checkInChunks(String text, LexerSpec lexer, int cut) {
+        BalanceChecker checker = new BalanceChecker(BRACKETS, lexer);
+        char[] head = text.substring(0, cut).toCharArray();
+        checker.feed(head, 0, head.length);
+        checker.feed(text.substring(cut));
+        return checker.finish();
+    }
+
+    private static void assertSameInAllChunkings(String text, LexerSpec lexer, boolean expected) {
+        assertEquals(expected, isBalanced(text, BRACKETS, lexer), text);
+        for (int cut = 0; cut <= text.length(); cut++) {
+            assertEquals(expected, checkInChunks(text, lexer, cut), text + " coupé en " + cut);
+        }
+    }
+
+    // Test 1 : Symboles à l'intérieur des chaînes JSON ignorés
+    @Test
+    void testJsonStrings() {
+        assertSameInAllChunkings("{\"a\": \"([{\", \"b\": [1, \"}\"]}", LexerSpec.JSON, true);
+        assertSameInAllChunkings("{\"a\": \"\\\"]\"}", LexerSpec.JSON, true);
+        assertSameInAllChunkings("{\"a\": \"\\\\\"]}", LexerSpec.JSON, false);
+        assertFalse(isBalanced("{\"a\": \"([{\"}", BRACKETS, LexerSpec.NONE), "Sans lexer, les chaînes ne sont pas ignorées.");
+    }
+
+    // Test 2 : Commentaires de ligne et de bloc
+    @Test
+    void testComments() {
+        assertSameInAllChunkings("f(a /* ) */, b) // }\n{ }", LexerSpec.C_LIKE, true);
+        assertSameInAllChunkings("f(a) // unterminated (", LexerSpec.C_LIKE, true);
+        assertSameInAllChunkings("f(a, '}') /* ( **/", LexerSpec.C_LIKE, true);
+        assertSameInAllChunkings("x = a / (b / c) /* } */", LexerSpec.C_LIKE, true);
+        assertSameInAllChunkings("f(a /* ) */", LexerSpec.C_LIKE, false);
+    }
+
+    // Test 3 : Littéral ou commentaire de bloc non terminé
+    @Test
+    void testUnterminatedLiterals() {
+        assertSameInAllChunkings("f(\"abc)", LexerSpec.C_LIKE, false);
+        assertSameInAllChunkings("{} /* comment", LexerSpec.C_LIKE, false);
+        assertSameInAllChunkings("{} \"abc\\", LexerSpec.C_LIKE, false);
+    }
+
+    // Test 4 : Marqueurs de plusieurs caractères, le plus long l'emporte
+    @Test
+    void testLongestMarkerWins() {
+        LexerSpec python = LexerSpec.NONE.withEscape('\\').withQuote('"').withBlockComment("\"\"\"", "\"\"\"").withLineComment("#");
+        assertSameInAllChunkings("f(\"\"\"doc \" ( \"\"\", \"\")", python, true);
+        assertSameInAllChunkings("d[\"k\"] # ]", python, true);
+
+        LexerSpec html = LexerSpec.NONE.withBlockComment("<!--", "-->");
+        assertSameInAllChunkings("(<!-- ) --->)", html, true);
+        assertSameInAllChunkings("(<!- )", html, true);
+    }
+
+    // Test 5 : Marqueurs contenant des symboles de regroupement
+    @Test
+    void testMarkersContainingGroupingSymbols() {
+        LexerSpec template = LexerSpec.NONE.withBlockComment("{#", "#}");
+        assertSameInAllChunkings("{ {# } #} }", template, true);
+        assertSameInAllChunkings("{ x }", template, true);
+        assertSameInAllChunkings("{", template, false);
+    }
+
+    // Test 6 : Échappement suivi d'un caractère UTF-8 multi-octets
+    @Test
+    void testFeedUtf8WithEscapedMultiByteChar() {
+        byte[] bytes = "[\"\\é\", \"]\"]".getBytes(StandardCharsets.UTF_8);
+        for (int cut = 0; cut <= bytes.length; cut++) {
+            BalanceChecker checker = new BalanceChecker(BRACKETS, LexerSpec.JSON);
+            checker.feedUtf8(ByteBuffer.wrap(bytes, 0, cut));
+            checker.feedUtf8(ByteBuffer.wrap(bytes, cut, bytes.length - cut));
+            assertTrue(checker.finish(), "coupé en " + cut);
+        }
+    }
+
+    // Test 7 : Spécifications invalides et réinitialisation
+    @Test
+    void testInvalidSpecsAndReset() {
+        assertThrows(IllegalArgumentException.class, () -> LexerSpec.NONE.withLineComment(""));
+        assertThrows(IllegalArgumentException.class, () -> LexerSpec.C_LIKE.withLineComment("//"));
+        assertThrows(IllegalArgumentException.class, () -> LexerSpec.NONE.withBlockComment("/*", ""));
+        assertFalse(LexerSpec.NONE.withQuote('«').isAscii());
+
+        BalanceChecker checker = new BalanceChecker(BRACKETS, LexerSpec.C_LIKE);
+        checker.feed("/* (");
+        assertFalse(checker.isBalancedSoFar());
+        checker.reset();
+        assertTrue(checker.feed("()").finish());
+    }
+
+    // Test 8 : État du lexer réutilisé d'un appel à l'autre, avec des spécifications différentes
+    @Test
+    void testScratchLexerSwitchesSpecs() {
+        LexerSpec html = LexerSpec.NONE.withBlockComment("<!--", "-->");
+        assertFalse(isBalanced("( /* ) \"", BRACKETS, LexerSpec.C_LIKE));
+        assertTrue(isBalanced("(<!-- ) -->)", BRACKETS, html));
+        assertFalse(isBalanced("(<!-- ) -->", BRACKETS, html));
+        assertTrue(isBalanced("[\"]\"]", BRACKETS, LexerSpec.JSON));
+        assertFalse(isBalanced("(\"", BRACKETS, LexerSpec.NONE), "Le lexer précédent ne doit pas déteindre.");
+        assertTrue(isBalanced("()", BRACKETS, LexerSpec.NONE));
+    }
+
+    // Test 9 : Flux, canaux et fichiers vérifiés avec un lexer
+    @Test
+    void testStaticChecksWithLexer(@TempDir Path dir) throws IOException {
+        String text = "f(a, \"}\") /* ( */ // ]\n{ }";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        assertTrue(BalanceChecker.check(new StringReader(text), BRACKETS, LexerSpec.C_LIKE));
+        assertFalse(BalanceChecker.check(new StringReader(text)));
+        assertTrue(BalanceChecker.check(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, BRACKETS, LexerSpec.C_LIKE));
+        assertTrue(BalanceChecker.check(Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8,
+                BRACKETS, LexerSpec.C_LIKE));
+
+        Path file = dir.resolve("source.c");
+        Files.writeString(file, text);
+        assertTrue(BalanceChecker.checkFile(file, BRACKETS, LexerSpec.C_LIKE));
+        assertTrue(BalanceChecker.checkFile(file, 3, BRACKETS, LexerSpec.C_LIKE));
+        assertFalse(BalanceChecker.checkFile(file));
+
+        Files.writeString(file, text + " /* }");
+        assertFalse(BalanceChecker.checkFile(file, 3, BRACKETS, LexerSpec.C_LIKE));
+        assertThrows(IllegalArgumentException.class, () -> BalanceChecker.checkFile(file, BRACKETS, LexerSpec.NONE.withQuote('«')));
+    }
+}
@@ -0,0 +1,70 @@
+package test;
+
+import main.ParallelBalanceChecker;
+import main.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelBalanceCheckerTest {
+
+    private static String randomText(Random random, int length, String alphabet) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String nested(Random random, int pairs) {
+        StringBuilder open = new StringBuilder();
+        StringBuilder close = new StringBuilder();
+        for (int i = 0; i < pairs; i++) {
+            int kind = random.nextInt(3);
+            open.append("([{".charAt(kind)).append('x');
+            close.append(")]}".charAt(kind));
+        }
+        return open.toString() + close.reverse();
+    }
+
+    // Test 1 : Accord avec le parcours séquentiel sur des entrées aléatoires
+    @Test
+    void testAgreesWithSequentialOnRandomInputs() {
+        ParallelBalanceChecker checker = new ParallelBalanceChecker(ForkJoinPool.commonPool(), 3);
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            String text = randomText(random, random.nextInt(40), "()[]{}a");
+            assertEquals(StringUtils.isBalanced(text), checker.isBalanced(text), text);
+        }
+    }
+
+    // Test 2 : Entrées équilibrées profondes découpées en nombreux segments
+    @Test
+    void testDeeplyNestedBalancedInputs() {
+        ParallelBalanceChecker checker = new ParallelBalanceChecker(ForkJoinPool.commonPool(), 64);
+        Random random = new Random(7);
+        String text = nested(random, 50_000) + nested(random, 10_000);
+        assertTrue(checker.isBalanced(text));
+        assertFalse(checker.isBalanced(text.substring(0, text.length() - 1)));
+        assertFalse(checker.isBalanced("]" + text.substring(1)));
+    }
+
+    // Test 3 : Repli séquentiel sous le seuil et cas null
+    @Test
+    void testSequentialFallbackAndNull() {
+        ParallelBalanceChecker checker = new ParallelBalanceChecker();
+        assertTrue(checker.isBalanced("{[()]}"));
+        assertFalse(checker.isBalanced("([)]"));
+        assertFalse(checker.isBalanced(null));
+    }
+
+    // Test 4 : Paramètres invalides
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBalanceChecker(ForkJoinPool.commonPool(), 0));
+        assertThrows(NullPointerException.class, () -> new ParallelBalanceChecker(null, 10));
+    }
+}
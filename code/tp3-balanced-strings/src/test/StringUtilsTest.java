@@ -1,8 +1,15 @@
 package test;
 
+import main.BracketSpec;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
 import static main.StringUtils.isBalanced;
+import static main.StringUtils.isBalancedScalar;
+import static main.StringUtils.isBalancedUtf8;
 import static org.junit.jupiter.api.Assertions.*;
 
 class StringUtilsTest {
@@ -158,4 +165,114 @@ class StringUtilsTest {
         // Symboles mélangés avec des caractères non symboles et des paires incorrectes
         assertFalse(isBalanced("{a[b(c]d)e}"), "Chaîne avec symboles mal imbriqués et caractères ne doit pas être équilibrée.");
     }
+
+    // Test 23 : Surcharge CharSequence sur un StringBuilder
+    @Test
+    void testCharSequenceOverload() {
+        assertTrue(isBalanced(new StringBuilder("{a[b(c)d]e}")), "Un StringBuilder équilibré doit être accepté.");
+        assertFalse(isBalanced(new StringBuilder("{a[b(c]d)e}")), "Un StringBuilder mal imbriqué ne doit pas être accepté.");
+        assertFalse(isBalanced((CharSequence) null), "Une séquence null ne doit pas être équilibrée.");
+    }
+
+    // Test 24 : Surcharge tableau de caractères avec décalage et longueur
+    @Test
+    void testCharArrayRangeOverload() {
+        char[] chars = "))({[]})((".toCharArray();
+        assertTrue(isBalanced(chars, 2, 6), "La plage centrale est équilibrée.");
+        assertFalse(isBalanced(chars, 0, chars.length), "Le tableau complet n'est pas équilibré.");
+        assertTrue(isBalanced(chars, 5, 0), "Une plage vide doit être équilibrée.");
+        assertFalse(isBalanced(null, 0, 0), "Un tableau null ne doit pas être équilibré.");
+        assertThrows(IndexOutOfBoundsException.class, () -> isBalanced(chars, 8, 5));
+    }
+
+    // Test 25 : Réutilisation de la pile entre deux appels après un échec
+    @Test
+    void testScratchStackReusedAfterFailure() {
+        assertFalse(isBalanced("((((("), "Des ouvertures sans fermeture ne doivent pas être équilibrées.");
+        assertTrue(isBalanced("()"), "Un appel précédent ne doit pas laisser d'état résiduel.");
+    }
+
+    // Test 26 : Imbrication profonde au-delà de la capacité initiale de la pile
+    @Test
+    void testDeepNesting() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            sb.append("([{".charAt(i % 3));
+        }
+        for (int i = 100_000 - 1; i >= 0; i--) {
+            sb.append(")]}".charAt(i % 3));
+        }
+        assertTrue(isBalanced(sb.toString()), "Une imbrication profonde équilibrée doit être acceptée.");
+        assertFalse(isBalanced(sb.substring(1)), "Une imbrication profonde tronquée ne doit pas être acceptée.");
+    }
+
+    // Test 27 : Le chemin par table et le chemin scalaire donnent le même résultat
+    @Test
+    void testTableDrivenPathMatchesScalarPath() {
+        Random random = new Random(2024);
+        String alphabet = "()[]{}<>ab «»\u00e9\u2028";
+        for (int n = 0; n < 5000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String text = sb.toString();
+            char[] chars = text.toCharArray();
+            assertEquals(isBalancedScalar(text), isBalanced(text), text);
+            assertEquals(isBalancedScalar(text), isBalanced(chars, 0, chars.length), text);
+        }
+        assertFalse(isBalancedScalar(null), "Une séquence null ne doit pas être équilibrée.");
+    }
+
+    // Test 28 : Longues suites de caractères sans symbole de regroupement
+    @Test
+    void testLongRunsWithoutGroupingSymbols() {
+        String filler = "lorem ipsum dolor sit amet ".repeat(500);
+        String text = "{" + filler + "[" + filler + "]" + filler + "}" + filler;
+        char[] chars = text.toCharArray();
+        assertTrue(isBalanced(text));
+        assertTrue(isBalanced(chars, 0, chars.length));
+        assertFalse(isBalanced(chars, 1, chars.length - 1), "La plage sans l'accolade ouvrante n'est pas équilibrée.");
+    }
+
+    // Test 29 : Octets UTF-8 vérifiés sans décodage, même résultat qu'après décodage
+    @Test
+    void testUtf8BytesMatchDecodedText() {
+        Random random = new Random(8);
+        String alphabet = "()[]{}aé€\uD83D\uDE00«»";
+        for (int n = 0; n < 3000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int i = 0; i < length; i++) {
+                int k = random.nextInt(alphabet.length());
+                if (Character.isHighSurrogate(alphabet.charAt(k))) {
+                    sb.append(alphabet, k, k + 2);
+                }
+                else if (!Character.isLowSurrogate(alphabet.charAt(k))) {
+                    sb.append(alphabet.charAt(k));
+                }
+            }
+            String text = sb.toString();
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+            assertEquals(isBalanced(text), isBalancedUtf8(bytes, 0, bytes.length), text);
+            assertEquals(isBalanced(text), isBalancedUtf8(ByteBuffer.wrap(bytes)), text);
+            assertEquals(isBalanced(text), isBalancedUtf8(direct), text);
+            assertEquals(0, direct.position(), "La position du tampon ne doit pas changer.");
+        }
+    }
+
+    // Test 30 : Plages d'octets, tampons découpés et spécifications non ASCII
+    @Test
+    void testUtf8RangesAndSlices() {
+        byte[] bytes = "))(é[€])((".getBytes(StandardCharsets.UTF_8);
+        assertTrue(isBalancedUtf8(bytes, 2, bytes.length - 4));
+        assertFalse(isBalancedUtf8(bytes, 0, bytes.length));
+        assertTrue(isBalancedUtf8(ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice()));
+        assertFalse(isBalancedUtf8((byte[]) null, 0, 0));
+        assertFalse(isBalancedUtf8((ByteBuffer) null));
+        assertThrows(IndexOutOfBoundsException.class, () -> isBalancedUtf8(bytes, 4, bytes.length));
+        assertThrows(IllegalArgumentException.class, () -> isBalancedUtf8(ByteBuffer.wrap(bytes), BracketSpec.of("«»")));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package test;
+
+import main.BracketSpec;
+import main.TreeValidator;
+import main.TreeValidator.FileResult;
+import main.TreeValidator.Report;
+import main.TreeValidator.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeValidatorTest {
+
+    private static Path fixture(Path dir) throws IOException {
+        Files.createDirectories(dir.resolve("src/nested"));
+        Files.writeString(dir.resolve("a.json"), "{\"é\": [1, 2, (3)]}");
+        Files.writeString(dir.resolve("src/b.java"), "class B { void f() { g(]; } }");
+        Files.writeString(dir.resolve("src/nested/c.txt"), "(".repeat(100_000) + "x" + ")".repeat(100_000));
+        Files.createFile(dir.resolve("src/nested/empty.txt"));
+        return dir;
+    }
+
+    // Test 1 : Rapport par fichier trié, avec les totaux
+    @Test
+    void testValidateTree(@TempDir Path dir) throws IOException {
+        Report report = new TreeValidator(3).validate(fixture(dir));
+        assertEquals(4, report.files().size());
+        FileResult first = report.files().get(0);
+        assertEquals(Path.of("a.json"), first.path());
+        assertEquals(Status.BALANCED, first.status());
+        assertEquals(Status.UNBALANCED, report.files().get(1).status());
+        assertEquals(Path.of("src/nested/c.txt"), report.files().get(2).path());
+        assertEquals(200_001, report.files().get(2).size());
+        assertEquals(3, report.count(Status.BALANCED));
+        assertEquals(1, report.count(Status.UNBALANCED));
+        assertFalse(report.isAllBalanced());
+    }
+
+    // Test 2 : Format lisible par machine
+    @Test
+    void testWriteReport(@TempDir Path dir) throws IOException {
+        Report report = new TreeValidator(2).validate(fixture(dir));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        report.write(new PrintStream(out, true, StandardCharsets.UTF_8));
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\\R");
+        assertEquals(5, lines.length);
+        assertTrue(lines[0].startsWith("BALANCED\t"));
+        assertTrue(lines[1].startsWith("UNBALANCED\t"));
+        assertTrue(lines[4].startsWith("TOTAL\tfiles=4\tbalanced=3\tunbalanced=1\terrors=0\tbytes="));
+    }
+
+    // Test 3 : Filtre sur les chemins et paramètres invalides
+    @Test
+    void testFilterAndInvalidArguments(@TempDir Path dir) throws IOException {
+        TreeValidator validator = new TreeValidator(1, BracketSpec.DEFAULT, FileSystems.getDefault().getPathMatcher("glob:**.txt"));
+        Report report = validator.validate(fixture(dir));
+        assertEquals(2, report.files().size());
+        assertTrue(report.isAllBalanced());
+        assertThrows(IllegalArgumentException.class, () -> new TreeValidator(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TreeValidator(1, BracketSpec.of("«»"), path -> true));
+    }
+}
@@ -0,0 +1,80 @@
+package jmh;
+
+import main.Date;
+import main.DateLongMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counting the occurrences of each day of a stream of dates, then reading every count back,
+ * with {@link DateLongMap} and with a {@code HashMap<Date, Long>}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateMapBenchmark {
+
+    @Param({"1000000"})
+    public int count;
+
+    /** Number of distinct days the dates are drawn from. */
+    @Param({"365", "36500"})
+    public int days;
+
+    private Date[] dates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long first = Date.of(1, 1, 2000).toEpochDay();
+        dates = new Date[count];
+        for (int i = 0; i < count; i++) {
+            int packed = Date.ofEpochDay(first + random.nextInt(days)).toPacked();
+            // Distinct instances, as when dates are parsed from input.
+            dates[i] = new Date(packed & 31, packed >>> 5 & 15, packed >>> 9);
+        }
+    }
+
+    @Benchmark
+    public long dateLongMap() {
+        DateLongMap counts = new DateLongMap();
+        for (Date date : dates) {
+            counts.addTo(date, 1);
+        }
+        long sum = 0;
+        for (Date date : dates) {
+            sum += counts.get(date);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long hashMap() {
+        Map<Date, Long> counts = new HashMap<>();
+        for (Date date : dates) {
+            counts.merge(date, 1L, Long::sum);
+        }
+        long sum = 0;
+        for (Date date : dates) {
+            sum += counts.get(date);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,79 @@
+package jmh;
+
+import main.Date;
+import main.DateSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting random dates with {@link DateSort} and with {@link Arrays#sort}, as objects and as
+ * packed ints. Each call sorts a fresh copy, so the copy is included in every score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateSortBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Date[] dates;
+    private int[] packed;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long first = Date.of(1, 1, 1900).toEpochDay();
+        dates = new Date[size];
+        packed = new int[size];
+        for (int i = 0; i < size; i++) {
+            int key = Date.ofEpochDay(first + random.nextInt(73_000)).toPacked();
+            dates[i] = new Date(key & 31, key >>> 5 & 15, key >>> 9);
+            packed[i] = key;
+        }
+    }
+
+    @Benchmark
+    public Date[] dateSort() {
+        Date[] copy = dates.clone();
+        DateSort.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public Date[] arraysSort() {
+        Date[] copy = dates.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] dateSortPacked() {
+        int[] copy = packed.clone();
+        DateSort.sortPacked(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] arraysSortPacked() {
+        int[] copy = packed.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,210 @@
+package main;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Working-day calendar over a fixed range of whole years. Every day of the range has one bit,
+ * set for working days, and every 64-day word records how many working days precede it, so
+ * that counting working days between two dates is constant time and stepping over
+ * {@code n} of them is a binary search over the words. Immutable and thread-safe.
+ */
+public final class BusinessCalendar {
+
+    /** Day of the week of Saturday, see {@link Date#dayOfWeek()}. */
+    public static final int SATURDAY = 6;
+    /** Day of the week of Sunday, see {@link Date#dayOfWeek()}. */
+    public static final int SUNDAY = 7;
+
+    private final int firstYear;
+    private final int lastYear;
+    private final long firstEpochDay;
+    private final int dayCount;
+    private final long[] workingDays;
+    /** Working days before each word of {@link #workingDays}, plus the total at the end. */
+    private final int[] ranks;
+
+    /**
+     * Creates a calendar of the given years where every Saturday, Sunday and holiday is off.
+     *
+     * @param firstYear First year of the calendar
+     * @param lastYear  Last year of the calendar, inclusive
+     * @param holidays  Days off besides weekends; those outside the years are ignored
+     * @throws IllegalArgumentException if the years are not a valid range
+     * @throws NullPointerException if holidays or one of them is null
+     */
+    public BusinessCalendar(int firstYear, int lastYear, Collection<Date> holidays) {
+        this(firstYear, lastYear, holidays, Set.of(SATURDAY, SUNDAY));
+    }
+
+    /**
+     * Creates a calendar of the given years where the given weekdays and holidays are off.
+     *
+     * @param firstYear   First year of the calendar
+     * @param lastYear    Last year of the calendar, inclusive
+     * @param holidays    Days off besides weekends; those outside the years are ignored
+     * @param weekendDays Days of the week that are always off, from 1 for Monday to 7 for Sunday
+     * @throws IllegalArgumentException if the years are not a valid range or a weekday is not within 1 to 7
+     * @throws NullPointerException if an argument or one of the holidays is null
+     */
+    public BusinessCalendar(int firstYear, int lastYear, Collection<Date> holidays, Set<Integer> weekendDays) {
+        if (firstYear < 1 || lastYear < firstYear) {
+            throw new IllegalArgumentException("Invalid calendar years provided.");
+        }
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.firstEpochDay = Date.daysFromCivil(firstYear, 1, 1);
+        long days = Date.daysFromCivil(lastYear, 12, 31) - firstEpochDay + 1;
+        if (days > Integer.MAX_VALUE - Long.SIZE) {
+            throw new IllegalArgumentException("Invalid calendar years provided.");
+        }
+        this.dayCount = (int) days;
+        this.workingDays = new long[(dayCount + Long.SIZE - 1) / Long.SIZE];
+
+        boolean[] weekend = new boolean[8];
+        for (int weekday : weekendDays) {
+            if (weekday < 1 || weekday > 7) {
+                throw new IllegalArgumentException("Invalid day of the week provided.");
+            }
+            weekend[weekday] = true;
+        }
+        int weekday = Date.ofEpochDay(firstEpochDay).dayOfWeek();
+        for (int i = 0; i < dayCount; i++) {
+            if (!weekend[weekday]) {
+                workingDays[i >>> 6] |= 1L << i;
+            }
+            weekday = weekday == 7 ? 1 : weekday + 1;
+        }
+        for (Date holiday : holidays) {
+            long index = Objects.requireNonNull(holiday, "The holiday is null.").toEpochDay() - firstEpochDay;
+            if (index >= 0 && index < dayCount) {
+                workingDays[(int) (index >>> 6)] &= ~(1L << index);
+            }
+        }
+
+        this.ranks = new int[workingDays.length + 1];
+        for (int w = 0; w < workingDays.length; w++) {
+            ranks[w + 1] = ranks[w] + Long.bitCount(workingDays[w]);
+        }
+    }
+
+    /**
+     * Returns the first year of the calendar.
+     */
+    public int firstYear() {
+        return firstYear;
+    }
+
+    /**
+     * Returns the last year of the calendar, inclusive.
+     */
+    public int lastYear() {
+        return lastYear;
+    }
+
+    /**
+     * Returns true if the date is a working day.
+     *
+     * @throws IllegalArgumentException if the date is outside the calendar years
+     */
+    public boolean isBusinessDay(Date date) {
+        int index = indexOf(date);
+        return (workingDays[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Returns the number of working days from {@code from} inclusive to {@code to} exclusive,
+     * negated if {@code to} is before {@code from}, in constant time. Either date may be the
+     * first day after the calendar, so that the range can end on its last day.
+     *
+     * @throws IllegalArgumentException if a date is neither within the calendar years nor the day after them
+     */
+    public int businessDaysBetween(Date from, Date to) {
+        return rank(boundOf(to)) - rank(boundOf(from));
+    }
+
+    /**
+     * Returns the {@code n}-th working day after the date, or before it if {@code n} is negative,
+     * the date itself not counting; returns the date itself if {@code n} is zero.
+     *
+     * @throws IllegalArgumentException if the date or the result is outside the calendar years
+     */
+    public Date addBusinessDays(Date date, int n) {
+        int index = indexOf(date);
+        if (n == 0) {
+            return date;
+        }
+        // Rank, among all working days of the calendar, of the one to return.
+        long target = n > 0 ? (long) rank(index + 1) + n - 1 : (long) rank(index) + n;
+        if (target < 0 || target >= ranks[workingDays.length]) {
+            throw new IllegalArgumentException("Result outside the calendar range.");
+        }
+        return Date.ofEpochDay(firstEpochDay + select((int) target));
+    }
+
+    /**
+     * Returns the number of working days in a year of the calendar.
+     *
+     * @throws IllegalArgumentException if the year is outside the calendar years
+     */
+    public int businessDaysInYear(int year) {
+        if (year < firstYear || year > lastYear) {
+            throw new IllegalArgumentException("Date outside the calendar range.");
+        }
+        int start = (int) (Date.daysFromCivil(year, 1, 1) - firstEpochDay);
+        return rank(start + Date.daysInYear(year)) - rank(start);
+    }
+
+    private int indexOf(Date date) {
+        int index = boundOf(date);
+        if (index == dayCount) {
+            throw new IllegalArgumentException("Date outside the calendar range.");
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the date, which may also be the first day after the calendar.
+     */
+    private int boundOf(Date date) {
+        Objects.requireNonNull(date, "The date is null.");
+        long index = date.toEpochDay() - firstEpochDay;
+        if (index < 0 || index > dayCount) {
+            throw new IllegalArgumentException("Date outside the calendar range.");
+        }
+        return (int) index;
+    }
+
+    /**
+     * Returns the number of working days before the day at {@code index}.
+     */
+    private int rank(int index) {
+        int word = index >>> 6;
+        if (word == workingDays.length) {
+            return ranks[word];
+        }
+        return ranks[word] + Long.bitCount(workingDays[word] & ((1L << index) - 1));
+    }
+
+    /**
+     * Returns the index of the working day preceded by exactly {@code rank} working days.
+     */
+    private int select(int rank) {
+        int low = 0;
+        int high = workingDays.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (ranks[mid] <= rank) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        long word = workingDays[low];
+        for (int skip = rank - ranks[low]; skip > 0; skip--) {
+            word &= word - 1;
+        }
+        return (low << 6) + Long.numberOfTrailingZeros(word);
+    }
+}
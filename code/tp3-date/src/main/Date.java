@@ -1,6 +1,42 @@
 package main;
 
+import java.util.Objects;
+
 public class Date implements Comparable<Date> {
+    /** Epoch day of 01/01/0001. */
+    static final long MIN_EPOCH_DAY = -719162;
+    /** Epoch day of 31/12/{@link Integer#MAX_VALUE}. */
+    static final long MAX_EPOCH_DAY = daysFromCivil(Integer.MAX_VALUE, 12, 31);
+
+    /**
+     * Years whose dates are pre-built and shared by {@link #of(int, int, int)}.
+     * Set the {@code main.Date.cacheFirstYear} and {@code main.Date.cacheLastYear}
+     * system properties to move or resize the range; the last year defaults to 29 years
+     * after the first, is clamped to {@link #MAX_CACHE_SPAN} years after it and may not
+     * precede it.
+     */
+    static final int CACHE_FIRST_YEAR = Math.max(1, Integer.getInteger("main.Date.cacheFirstYear", 2010));
+    /** Largest number of years the cache may extend past {@link #CACHE_FIRST_YEAR}. */
+    static final int MAX_CACHE_SPAN = 200;
+    static final int CACHE_LAST_YEAR = cacheLastYear();
+
+    /** Month lengths of a common year, January first. */
+    private static final byte[] MONTH_LENGTHS = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private static final long MIN_MONTH_INDEX = 12;
+    private static final long MAX_MONTH_INDEX = Integer.MAX_VALUE * 12L + 11;
+
+    /** Largest year {@link #toPacked()} can encode. */
+    public static final int MAX_PACKED_YEAR = (1 << 22) - 1;
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long MILLIS_PER_DAY = SECONDS_PER_DAY * 1000;
+
+    private static final long CACHE_FIRST_EPOCH_DAY = daysFromCivil(CACHE_FIRST_YEAR, 1, 1);
+    private static final Date[] CACHE = buildCache();
+
+    private static final ThreadLocal<LastDay> LAST_DAY = ThreadLocal.withInitial(LastDay::new);
+
     private final int day;
     private final int month;
     private final int year;
@@ -22,6 +58,46 @@ public class Date implements Comparable<Date> {
         this.year = year;
     }
 
+    /**
+     * Returns a Date for the given day, shared with every other caller if its year
+     * lies in the cached range, so that {@code ==} is a valid equality test there.
+     * Throws IllegalArgumentException if the provided date is invalid.
+     *
+     * @param day   Day of the month
+     * @param month Month of the year
+     * @param year  Year
+     * @return Date of that day
+     */
+    public static Date of(int day, int month, int year) {
+        if (year >= CACHE_FIRST_YEAR && year <= CACHE_LAST_YEAR && isValidDate(day, month, year)) {
+            return CACHE[(int) (daysFromCivil(year, month, day) - CACHE_FIRST_EPOCH_DAY)];
+        }
+        return new Date(day, month, year);
+    }
+
+    private static int cacheLastYear() {
+        int defaultLastYear = (int) Math.min(CACHE_FIRST_YEAR + 29L, Integer.MAX_VALUE);
+        int lastYear = Integer.getInteger("main.Date.cacheLastYear", defaultLastYear);
+        if (lastYear < CACHE_FIRST_YEAR) {
+            throw new IllegalArgumentException("Invalid cache years provided.");
+        }
+        return (int) Math.min(lastYear, CACHE_FIRST_YEAR + (long) MAX_CACHE_SPAN);
+    }
+
+    private static Date[] buildCache() {
+        Date[] cache = new Date[(int) (daysFromCivil(CACHE_LAST_YEAR, 12, 31) - CACHE_FIRST_EPOCH_DAY + 1)];
+        int index = 0;
+        for (int year = CACHE_FIRST_YEAR; index < cache.length; year++) {
+            for (int month = 1; month <= 12; month++) {
+                int maxDay = getDaysInMonth(month, year);
+                for (int day = 1; day <= maxDay; day++) {
+                    cache[index++] = new Date(day, month, year);
+                }
+            }
+        }
+        return cache;
+    }
+
     /**
      * Checks if the given date is valid.
      *
@@ -39,9 +115,8 @@ public class Date implements Comparable<Date> {
             return false;
         }
 
-        int maxDay = getDaysInMonth(month, year);
-
-        return day >= 1 && day <= maxDay;
+        // Only 29/02 depends on the year, so the leap-year test is skipped for every other day.
+        return day >= 1 && (day <= MONTH_LENGTHS[month - 1] || day == 29 && month == 2 && isLeapYear(year));
     }
 
     /**
@@ -54,13 +129,34 @@ public class Date implements Comparable<Date> {
         // Leap year rules:
         // - Every year divisible by 4 is a leap year
         // - Except for years divisible by 100, unless also divisible by 400
-        if (year % 4 != 0) {
-            return false;
-        } else if (year % 100 != 0) {
-            return true;
-        } else {
-            return year % 400 == 0;
+        // Among multiples of 4, "divisible by 100" is "divisible by 25" and
+        // "divisible by 400" is "divisible by 16", a mask test.
+        return (year & 3) == 0 && ((year & 15) == 0 || year % 25 != 0);
+    }
+
+    /**
+     * Returns the number of days in a given month for a specific year.
+     *
+     * @param month Month (1-12)
+     * @param year  Year
+     * @return Number of days in the month
+     * @throws IllegalArgumentException if the month is not between 1 and 12
+     */
+    public static int daysInMonth(int month, int year) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month provided.");
         }
+        return getDaysInMonth(month, year);
+    }
+
+    /**
+     * Returns the number of days in a given year.
+     *
+     * @param year Year
+     * @return 366 for a leap year, 365 otherwise
+     */
+    public static int daysInYear(int year) {
+        return isLeapYear(year) ? 366 : 365;
     }
 
     /**
@@ -71,15 +167,11 @@ public class Date implements Comparable<Date> {
      * @return Number of days in the month
      */
     private static int getDaysInMonth(int month, int year) {
-        return switch (month) {
-            case 2 -> isLeapYear(year) ? 29 : 28;
-            case 4, 6, 9, 11 -> 30;
-            default -> 31;
-        };
+        return month == 2 && isLeapYear(year) ? 29 : MONTH_LENGTHS[month - 1];
     }
 
     /**
-     * Returns a new Date instance representing the next day.
+     * Returns the Date representing the next day, shared if it lies in the cached range.
      *
      * @return Date of the next day
      */
@@ -99,11 +191,11 @@ public class Date implements Comparable<Date> {
             }
         }
 
-        return new Date(newDay, newMonth, newYear);
+        return of(newDay, newMonth, newYear);
     }
 
     /**
-     * Returns a new Date instance representing the previous day.
+     * Returns the Date representing the previous day, shared if it lies in the cached range.
      *
      * @return Date of the previous day
      */
@@ -124,7 +216,256 @@ public class Date implements Comparable<Date> {
             newDay = getDaysInMonth(newMonth, newYear);
         }
 
-        return new Date(newDay, newMonth, newYear);
+        return of(newDay, newMonth, newYear);
+    }
+
+    /**
+     * Returns the number of days from 01/01/1970 to this date,
+     * negative for earlier dates. Computed in constant time.
+     *
+     * @return Epoch day of this date
+     */
+    public long toEpochDay() {
+        return daysFromCivil(this.year, this.month, this.day);
+    }
+
+    /**
+     * Returns the date that is the given number of days after 01/01/1970.
+     *
+     * @param epochDay Days since 01/01/1970, negative for earlier dates
+     * @return Date of that day
+     * @throws IllegalArgumentException if the date is before 01/01/0001 or its year exceeds an int
+     */
+    public static Date ofEpochDay(long epochDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new IllegalArgumentException("Year out of valid range.");
+        }
+        if (epochDay >= CACHE_FIRST_EPOCH_DAY && epochDay - CACHE_FIRST_EPOCH_DAY < CACHE.length) {
+            return CACHE[(int) (epochDay - CACHE_FIRST_EPOCH_DAY)];
+        }
+        // Civil-from-days over 400-year eras starting on March 1st (H. Hinnant).
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return new Date(day, month, (int) year);
+    }
+
+    /**
+     * Returns the UTC date of the given number of seconds since 01/01/1970 00:00 UTC.
+     * Allocates nothing if the day is in the cached range or the same as the previous
+     * one converted by the calling thread outside it, as consecutive timestamps of a log usually are.
+     *
+     * @param epochSecond Seconds since the epoch, negative for earlier instants
+     * @return Date of that instant
+     * @throws IllegalArgumentException if the date is before 01/01/0001 or its year exceeds an int
+     */
+    public static Date ofEpochSecond(long epochSecond) {
+        return ofEpochDayCached(Math.floorDiv(epochSecond, SECONDS_PER_DAY));
+    }
+
+    /**
+     * Returns the UTC date of the given number of milliseconds since 01/01/1970 00:00 UTC.
+     * Allocates nothing if the day is in the cached range or the same as the previous
+     * one converted by the calling thread outside it, as consecutive timestamps of a log usually are.
+     *
+     * @param epochMilli Milliseconds since the epoch, negative for earlier instants
+     * @return Date of that instant
+     * @throws IllegalArgumentException if the date is before 01/01/0001 or its year exceeds an int
+     */
+    public static Date ofEpochMilli(long epochMilli) {
+        return ofEpochDayCached(Math.floorDiv(epochMilli, MILLIS_PER_DAY));
+    }
+
+    private static Date ofEpochDayCached(long epochDay) {
+        if (epochDay >= CACHE_FIRST_EPOCH_DAY && epochDay - CACHE_FIRST_EPOCH_DAY < CACHE.length) {
+            return CACHE[(int) (epochDay - CACHE_FIRST_EPOCH_DAY)];
+        }
+        LastDay last = LAST_DAY.get();
+        if (last.date == null || last.epochDay != epochDay) {
+            last.date = ofEpochDay(epochDay);
+            last.epochDay = epochDay;
+        }
+        return last.date;
+    }
+
+    /**
+     * Returns the number of seconds from 01/01/1970 00:00 UTC to the start of this date.
+     *
+     * @return Epoch second of this date at midnight UTC
+     */
+    public long toEpochSecond() {
+        return toEpochDay() * SECONDS_PER_DAY;
+    }
+
+    /**
+     * Returns the number of milliseconds from 01/01/1970 00:00 UTC to the start of this date.
+     *
+     * @return Epoch millisecond of this date at midnight UTC
+     * @throws IllegalArgumentException if the result does not fit in a long
+     */
+    public long toEpochMilli() {
+        long epochDay = toEpochDay();
+        if (epochDay > Long.MAX_VALUE / MILLIS_PER_DAY) {
+            throw new IllegalArgumentException("Year out of valid range.");
+        }
+        return epochDay * MILLIS_PER_DAY;
+    }
+
+    /**
+     * The day last converted by {@link #ofEpochDayCached(long)} outside the cached range,
+     * updated in place since each thread has its own.
+     */
+    private static final class LastDay {
+        long epochDay;
+        Date date;
+    }
+
+    /**
+     * Returns the number of days from 01/01/1970 to the given valid date.
+     */
+    static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1L : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Returns the day of the week of this date, from 1 for Monday to 7 for Sunday as in ISO-8601.
+     * Computed in constant time from the epoch day, 01/01/1970 being a Thursday.
+     *
+     * @return Day of the week of this date
+     */
+    public int dayOfWeek() {
+        return (int) Math.floorMod(toEpochDay() + 3, 7L) + 1;
+    }
+
+    /**
+     * Returns the Date the given number of days after this one, in constant time.
+     *
+     * @param days Number of days to add, may be negative
+     * @return Date of the resulting day
+     * @throws IllegalArgumentException if the result is out of the valid range
+     */
+    public Date plusDays(long days) {
+        if (days == 0) {
+            return this;
+        }
+        long epochDay = toEpochDay();
+        if (days > MAX_EPOCH_DAY - epochDay || days < MIN_EPOCH_DAY - epochDay) {
+            throw new IllegalArgumentException("Year out of valid range.");
+        }
+        return ofEpochDay(epochDay + days);
+    }
+
+    /**
+     * Returns the Date the given number of days before this one, in constant time.
+     *
+     * @param days Number of days to subtract, may be negative
+     * @return Date of the resulting day
+     * @throws IllegalArgumentException if the result is out of the valid range
+     */
+    public Date minusDays(long days) {
+        if (days == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("Year out of valid range.");
+        }
+        return plusDays(-days);
+    }
+
+    /**
+     * Returns the Date the given number of months after this one. The day is kept,
+     * or clamped to the last day of the resulting month if that month is shorter.
+     *
+     * @param months Number of months to add, may be negative
+     * @return Date of the resulting day
+     * @throws IllegalArgumentException if the result is out of the valid range
+     */
+    public Date plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        long monthIndex = monthIndex();
+        if (months > MAX_MONTH_INDEX - monthIndex || months < MIN_MONTH_INDEX - monthIndex) {
+            throw new IllegalArgumentException("Year out of valid range.");
+        }
+        long target = monthIndex + months;
+        int newYear = (int) (target / 12);
+        int newMonth = (int) (target % 12) + 1;
+        return of(Math.min(this.day, getDaysInMonth(newMonth, newYear)), newMonth, newYear);
+    }
+
+    /**
+     * Returns the number of months from January of year 0 to the month of this date.
+     */
+    long monthIndex() {
+        return this.year * 12L + this.month - 1;
+    }
+
+    /**
+     * Returns the number of days from this date to the other date.
+     *
+     * @param other The other Date
+     * @return Positive if the other date is after this one, negative if before, zero if equal
+     * @throws NullPointerException if other is null
+     */
+    public long daysBetween(Date other) {
+        if (other == null) {
+            throw new NullPointerException("The compared Date is null.");
+        }
+        return other.toEpochDay() - this.toEpochDay();
+    }
+
+    /**
+     * Returns this date packed as {@code year << 9 | month << 5 | day}.
+     * Packed values compare as signed ints in the same order as {@link #compareTo(Date)}.
+     *
+     * @return Packed form of this date
+     * @throws IllegalArgumentException if the year exceeds {@link #MAX_PACKED_YEAR}
+     */
+    public int toPacked() {
+        if (this.year > MAX_PACKED_YEAR) {
+            throw new IllegalArgumentException("Year out of valid range.");
+        }
+        return this.year << 9 | this.month << 5 | this.day;
+    }
+
+    /**
+     * Returns the Date of a value produced by {@link #toPacked()}, shared if it lies in the cached range.
+     *
+     * @param packed Packed date
+     * @return Date of that day
+     * @throws IllegalArgumentException if the value does not encode a valid date
+     */
+    public static Date ofPacked(int packed) {
+        if (packed < 0) {
+            throw new IllegalArgumentException("Invalid date provided.");
+        }
+        return of(packed & 31, packed >>> 5 & 15, packed >>> 9);
+    }
+
+    /**
+     * Checks if the given int is the packed form of a valid date.
+     *
+     * @param packed Value to check
+     * @return true if {@link #ofPacked(int)} accepts the value, false otherwise
+     */
+    public static boolean isValidPacked(int packed) {
+        return packed >= 0 && isValidDate(packed & 31, packed >>> 5 & 15, packed >>> 9);
+    }
+
+    /**
+     * Returns true if {@link #toPacked()} can encode this date.
+     */
+    boolean isPackable() {
+        return this.year <= MAX_PACKED_YEAR;
     }
 
     /**
@@ -159,7 +500,160 @@ public class Date implements Comparable<Date> {
      */
     @Override
     public String toString() {
-        return String.format("%02d/%02d/%04d", this.day, this.month, this.year);
+        char[] chars = new char[formattedLength()];
+        formatTo(chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Returns the number of chars of {@link #toString()}: 10, or more for years above 9999.
+     */
+    public int formattedLength() {
+        return 6 + yearDigits(this.year);
+    }
+
+    private static int yearDigits(int year) {
+        int digits = 4;
+        for (int limit = 10000; digits < 10 && year >= limit; limit *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Appends the DD/MM/YYYY form of this date without intermediate objects.
+     *
+     * @param sb Builder to append to
+     * @return the builder
+     */
+    public StringBuilder formatTo(StringBuilder sb) {
+        sb.append((char) ('0' + this.day / 10)).append((char) ('0' + this.day % 10)).append('/')
+                .append((char) ('0' + this.month / 10)).append((char) ('0' + this.month % 10)).append('/');
+        for (int digits = yearDigits(this.year), divisor = pow10(digits - 1); divisor > 0; divisor /= 10) {
+            sb.append((char) ('0' + this.year / divisor % 10));
+        }
+        return sb;
+    }
+
+    /**
+     * Writes the DD/MM/YYYY form of this date into {@code dest} at {@code offset}.
+     *
+     * @return the number of chars written, see {@link #formattedLength()}
+     * @throws IndexOutOfBoundsException if {@code dest} is too small
+     */
+    public int formatTo(char[] dest, int offset) {
+        int length = formattedLength();
+        Objects.checkFromIndexSize(offset, length, dest.length);
+        dest[offset] = (char) ('0' + this.day / 10);
+        dest[offset + 1] = (char) ('0' + this.day % 10);
+        dest[offset + 2] = '/';
+        dest[offset + 3] = (char) ('0' + this.month / 10);
+        dest[offset + 4] = (char) ('0' + this.month % 10);
+        dest[offset + 5] = '/';
+        int value = this.year;
+        for (int i = offset + length - 1; i > offset + 5; i--) {
+            dest[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return length;
+    }
+
+    /**
+     * Writes the DD/MM/YYYY form of this date as ASCII bytes into {@code dest} at {@code offset}.
+     *
+     * @return the number of bytes written, see {@link #formattedLength()}
+     * @throws IndexOutOfBoundsException if {@code dest} is too small
+     */
+    public int formatTo(byte[] dest, int offset) {
+        int length = formattedLength();
+        Objects.checkFromIndexSize(offset, length, dest.length);
+        dest[offset] = (byte) ('0' + this.day / 10);
+        dest[offset + 1] = (byte) ('0' + this.day % 10);
+        dest[offset + 2] = '/';
+        dest[offset + 3] = (byte) ('0' + this.month / 10);
+        dest[offset + 4] = (byte) ('0' + this.month % 10);
+        dest[offset + 5] = '/';
+        int value = this.year;
+        for (int i = offset + length - 1; i > offset + 5; i--) {
+            dest[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return length;
+    }
+
+    private static int pow10(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    /**
+     * Parses a date in the DD/MM/YYYY form produced by {@link #toString()}.
+     * Day and month take exactly two digits, the year at least four.
+     *
+     * @param text Text to parse
+     * @return the parsed Date, shared if it lies in the cached range
+     * @throws IllegalArgumentException if the text is malformed or the date is invalid
+     */
+    public static Date parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses the chars of {@code text} from {@code start} inclusive to {@code end} exclusive.
+     *
+     * @throws IllegalArgumentException if the text is malformed or the date is invalid
+     * @throws IndexOutOfBoundsException if the range lies outside the text
+     */
+    public static Date parse(CharSequence text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        int length = end - start;
+        if (length < 10 || length > 16 || text.charAt(start + 2) != '/' || text.charAt(start + 5) != '/') {
+            throw new IllegalArgumentException("Invalid date format.");
+        }
+        int day = digit(text.charAt(start)) * 10 + digit(text.charAt(start + 1));
+        int month = digit(text.charAt(start + 3)) * 10 + digit(text.charAt(start + 4));
+        long year = 0;
+        for (int i = start + 6; i < end; i++) {
+            year = year * 10 + digit(text.charAt(i));
+        }
+        return parsed(day, month, year);
+    }
+
+    /**
+     * Parses {@code length} ASCII bytes of {@code bytes} starting at {@code offset}.
+     *
+     * @throws IllegalArgumentException if the text is malformed or the date is invalid
+     * @throws IndexOutOfBoundsException if the range lies outside the array
+     */
+    public static Date parse(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length < 10 || length > 16 || bytes[offset + 2] != '/' || bytes[offset + 5] != '/') {
+            throw new IllegalArgumentException("Invalid date format.");
+        }
+        int day = digit((char) bytes[offset]) * 10 + digit((char) bytes[offset + 1]);
+        int month = digit((char) bytes[offset + 3]) * 10 + digit((char) bytes[offset + 4]);
+        long year = 0;
+        for (int i = offset + 6; i < offset + length; i++) {
+            year = year * 10 + digit((char) bytes[i]);
+        }
+        return parsed(day, month, year);
+    }
+
+    private static int digit(char c) {
+        if (c < '0' || c > '9') {
+            throw new IllegalArgumentException("Invalid date format.");
+        }
+        return c - '0';
+    }
+
+    private static Date parsed(int day, int month, long year) {
+        if (year > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid date provided.");
+        }
+        return of(day, month, (int) year);
     }
 
     // Optionally, you can override equals and hashCode methods for better comparison and hashing behavior.
@@ -0,0 +1,246 @@
+package main;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Fixed-width binary form of {@link Date}: the {@link Date#toPacked() packed} int written
+ * big-endian in {@value #BYTES} bytes. Packed values are never negative, so comparing two
+ * encodings byte by byte as unsigned values gives the order of {@link Date#compareTo(Date)},
+ * and a sorted file can be range-scanned without decoding. ByteBuffers are always written
+ * and read big-endian, whatever their own {@link ByteBuffer#order() order}.
+ */
+public final class DateCodec {
+
+    /** Size of one encoded date. */
+    public static final int BYTES = Integer.BYTES;
+
+    /** Dates per mapping when a file is memory-mapped, keeping each mapping under 2 GiB. */
+    private static final int RECORDS_PER_MAPPING = 1 << 28;
+    private static final int STREAM_CHUNK = 1024;
+
+    private DateCodec() {
+    }
+
+    /**
+     * Writes one date at the buffer position.
+     *
+     * @throws IllegalArgumentException if its year exceeds {@link Date#MAX_PACKED_YEAR}
+     * @throws BufferOverflowException if fewer than {@value #BYTES} bytes remain
+     */
+    public static void encode(Date date, ByteBuffer dest) {
+        int packed = date.toPacked();
+        dest.putInt(dest.order() == ByteOrder.BIG_ENDIAN ? packed : Integer.reverseBytes(packed));
+    }
+
+    /**
+     * Reads one date at the buffer position.
+     *
+     * @throws IllegalArgumentException if the bytes do not encode a valid date
+     * @throws BufferUnderflowException if fewer than {@value #BYTES} bytes remain
+     */
+    public static Date decode(ByteBuffer src) {
+        int packed = src.getInt();
+        return Date.ofPacked(src.order() == ByteOrder.BIG_ENDIAN ? packed : Integer.reverseBytes(packed));
+    }
+
+    /**
+     * Writes one date to a data output.
+     *
+     * @throws IllegalArgumentException if its year exceeds {@link Date#MAX_PACKED_YEAR}
+     */
+    public static void encode(Date date, DataOutput out) throws IOException {
+        out.writeInt(date.toPacked());
+    }
+
+    /**
+     * Reads one date from a data input.
+     *
+     * @throws IllegalArgumentException if the bytes do not encode a valid date
+     */
+    public static Date decode(DataInput in) throws IOException {
+        return Date.ofPacked(in.readInt());
+    }
+
+    /**
+     * Writes {@code length} dates of {@code dates} starting at {@code offset}.
+     *
+     * @throws IllegalArgumentException if a year exceeds {@link Date#MAX_PACKED_YEAR};
+     * the dates before it have been written
+     * @throws BufferOverflowException if the buffer lacks room for all of them;
+     * nothing has been written
+     */
+    public static void encode(Date[] dates, int offset, int length, ByteBuffer dest) {
+        Objects.checkFromIndexSize(offset, length, dates.length);
+        if (dest.remaining() / BYTES < length) {
+            throw new BufferOverflowException();
+        }
+        for (int i = offset; i < offset + length; i++) {
+            encode(dates[i], dest);
+        }
+    }
+
+    /**
+     * Reads {@code length} dates into {@code dates} starting at {@code offset}.
+     *
+     * @throws IllegalArgumentException if the bytes do not encode a valid date
+     * @throws BufferUnderflowException if the buffer holds fewer dates; nothing has been read
+     */
+    public static void decode(ByteBuffer src, Date[] dates, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, dates.length);
+        if (src.remaining() / BYTES < length) {
+            throw new BufferUnderflowException();
+        }
+        for (int i = offset; i < offset + length; i++) {
+            dates[i] = decode(src);
+        }
+    }
+
+    /**
+     * Writes every date of a column with one bulk copy.
+     *
+     * @throws BufferOverflowException if the buffer lacks room for all of them;
+     * nothing has been written
+     */
+    public static void encode(DateColumn column, ByteBuffer dest) {
+        int size = column.size();
+        if (dest.remaining() / BYTES < size) {
+            throw new BufferOverflowException();
+        }
+        bigEndianInts(dest).put(column.packedValues(), 0, size);
+        dest.position(dest.position() + size * BYTES);
+    }
+
+    /**
+     * Appends the next {@code count} dates of the buffer to a column with one bulk copy.
+     *
+     * @throws IllegalArgumentException if the bytes do not encode a valid date;
+     * the column is then left unchanged, but the buffer has been read
+     * @throws BufferUnderflowException if the buffer holds fewer dates; nothing has been read
+     */
+    public static void decode(ByteBuffer src, int count, DateColumn column) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count.");
+        }
+        if (src.remaining() / BYTES < count) {
+            throw new BufferUnderflowException();
+        }
+        IntBuffer ints = bigEndianInts(src);
+        src.position(src.position() + count * BYTES);
+        column.addAllPacked(ints, count);
+    }
+
+    /**
+     * Writes every date of a column, buffering them so that the output sees few large writes.
+     */
+    public static void encode(DateColumn column, DataOutput out) throws IOException {
+        int[] values = column.packedValues();
+        ByteBuffer chunk = ByteBuffer.allocate(STREAM_CHUNK * BYTES);
+        for (int from = 0; from < column.size(); from += STREAM_CHUNK) {
+            int count = Math.min(STREAM_CHUNK, column.size() - from);
+            chunk.clear();
+            chunk.asIntBuffer().put(values, from, count);
+            out.write(chunk.array(), 0, count * BYTES);
+        }
+    }
+
+    /**
+     * Appends the next {@code count} dates of a data input to a column.
+     *
+     * @throws IllegalArgumentException if the bytes do not encode a valid date;
+     * the dates before it have been appended
+     */
+    public static void decode(DataInput in, int count, DateColumn column) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count.");
+        }
+        ByteBuffer chunk = ByteBuffer.allocate(STREAM_CHUNK * BYTES);
+        for (int done = 0; done < count; done += STREAM_CHUNK) {
+            int chunkCount = Math.min(STREAM_CHUNK, count - done);
+            in.readFully(chunk.array(), 0, chunkCount * BYTES);
+            column.addAllPacked(chunk.asIntBuffer(), chunkCount);
+        }
+    }
+
+    /**
+     * Writes every date of a column to a file, replacing it, through memory mappings.
+     */
+    public static void write(Path file, DateColumn column) throws IOException {
+        int size = column.size();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long from = 0; from < size; from += RECORDS_PER_MAPPING) {
+                int count = (int) Math.min(RECORDS_PER_MAPPING, size - from);
+                MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, from * BYTES,
+                        (long) count * BYTES);
+                bigEndianInts(mapping).put(column.packedValues(), (int) from, count);
+                mapping.force();
+            }
+        }
+    }
+
+    /**
+     * Reads every date of a file written by {@link #write(Path, DateColumn)} through memory mappings.
+     *
+     * @throws IOException if the file length is not a multiple of {@value #BYTES}
+     * or it holds more dates than an array can
+     * @throws IllegalArgumentException if the bytes do not encode a valid date
+     */
+    public static DateColumn read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length % BYTES != 0 || length / BYTES > Integer.MAX_VALUE - 8) {
+                throw new IOException("Not an encoded date file: " + file);
+            }
+            int size = (int) (length / BYTES);
+            DateColumn column = new DateColumn(size);
+            for (long from = 0; from < size; from += RECORDS_PER_MAPPING) {
+                int count = (int) Math.min(RECORDS_PER_MAPPING, size - from);
+                MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, from * BYTES,
+                        (long) count * BYTES);
+                column.addAllPacked(bigEndianInts(mapping), count);
+            }
+            return column;
+        }
+    }
+
+    /**
+     * Returns the index, counted in dates from the buffer position, of the first encoded date
+     * at or after {@code key} in a buffer whose dates are sorted, comparing the encoded ints
+     * without decoding them. Returns the number of dates if all are before the key.
+     * The buffer position is not moved.
+     */
+    public static int lowerBound(ByteBuffer sorted, Date key) {
+        IntBuffer ints = bigEndianInts(sorted);
+        if (!key.isPackable()) {
+            return ints.remaining();
+        }
+        int packed = key.toPacked();
+        int low = 0;
+        int high = ints.remaining();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ints.get(mid) < packed) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static IntBuffer bigEndianInts(ByteBuffer buffer) {
+        return buffer.duplicate().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+    }
+}
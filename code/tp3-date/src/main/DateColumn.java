@@ -0,0 +1,348 @@
+package main;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Growable column of dates stored as {@link Date#toPacked() packed} ints, so that millions
+ * of dates take four bytes each in one contiguous array. Dates are materialized only by
+ * {@link #get(int)}; sorting, searching and aggregates work on the packed values directly,
+ * whose int order is the order of {@link Date#compareTo(Date)}. Not thread-safe.
+ */
+public final class DateColumn {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int size;
+    private boolean sorted = true;
+
+    /**
+     * Creates an empty column.
+     */
+    public DateColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty column able to hold {@code capacity} dates before growing.
+     *
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public DateColumn(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity.");
+        }
+        this.values = new int[capacity];
+    }
+
+    /**
+     * Returns the number of dates in the column.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the column holds no date.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends a date.
+     *
+     * @throws NullPointerException if date is null
+     * @throws IllegalArgumentException if its year exceeds {@link Date#MAX_PACKED_YEAR}
+     */
+    public void add(Date date) {
+        Objects.requireNonNull(date, "The date is null.");
+        addPacked(date.toPacked());
+    }
+
+    /**
+     * Appends a date given in packed form.
+     *
+     * @throws IllegalArgumentException if the value does not encode a valid date
+     */
+    public void addPacked(int packed) {
+        checkPacked(packed);
+        ensureCapacity(size + 1);
+        append(packed);
+    }
+
+    /**
+     * Appends all the given dates, growing the storage at most once.
+     *
+     * @throws NullPointerException if the array or one of its dates is null
+     * @throws IllegalArgumentException if a year exceeds {@link Date#MAX_PACKED_YEAR};
+     * the column is then left unchanged
+     */
+    public void addAll(Date... dates) {
+        int[] packed = new int[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            packed[i] = Objects.requireNonNull(dates[i], "The date is null.").toPacked();
+        }
+        appendAll(packed, 0, packed.length);
+    }
+
+    /**
+     * Appends all the given dates in iteration order, growing the storage at most once.
+     *
+     * @throws NullPointerException if the collection or one of its dates is null
+     * @throws IllegalArgumentException if a year exceeds {@link Date#MAX_PACKED_YEAR};
+     * the column is then left unchanged
+     */
+    public void addAll(Collection<Date> dates) {
+        addAll(dates.toArray(new Date[0]));
+    }
+
+    /**
+     * Appends {@code length} packed dates of {@code packed} starting at {@code offset}.
+     *
+     * @throws IllegalArgumentException if a value does not encode a valid date;
+     * the column is then left unchanged
+     * @throws IndexOutOfBoundsException if the range lies outside the array
+     */
+    public void addAllPacked(int[] packed, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, packed.length);
+        for (int i = offset; i < offset + length; i++) {
+            checkPacked(packed[i]);
+        }
+        appendAll(packed, offset, length);
+    }
+
+    /**
+     * Appends every date of another column.
+     */
+    public void addAll(DateColumn other) {
+        appendAll(other.values, 0, other.size);
+    }
+
+    /**
+     * Returns the date at {@code index}, shared if it lies in the cached range of {@link Date#of}.
+     *
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Date get(int index) {
+        return Date.ofPacked(getPacked(index));
+    }
+
+    /**
+     * Returns the packed form of the date at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int getPacked(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    /**
+     * Sorts the column in ascending date order.
+     */
+    public void sort() {
+        if (!sorted) {
+            DateSort.sortPacked(values, 0, size);
+            sorted = true;
+        }
+    }
+
+    /**
+     * Returns true if the column is known to be in ascending order, either because
+     * it was appended in order or because {@link #sort()} was called since.
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Searches a sorted column for a date, with the contract of {@link Arrays#binarySearch(int[], int)}.
+     *
+     * @return the index of the date, or {@code -(insertion point) - 1} if absent
+     * @throws IllegalStateException if the column is not sorted
+     * @throws NullPointerException if date is null
+     */
+    public int binarySearch(Date date) {
+        Objects.requireNonNull(date, "The date is null.");
+        if (!sorted) {
+            throw new IllegalStateException("The column is not sorted.");
+        }
+        return date.isPackable() ? Arrays.binarySearch(values, 0, size, date.toPacked()) : -size - 1;
+    }
+
+    /**
+     * Returns the earliest date of the column.
+     *
+     * @throws NoSuchElementException if the column is empty
+     */
+    public Date min() {
+        if (size == 0) {
+            throw new NoSuchElementException("The column is empty.");
+        }
+        if (sorted) {
+            return Date.ofPacked(values[0]);
+        }
+        int min = values[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return Date.ofPacked(min);
+    }
+
+    /**
+     * Returns the latest date of the column.
+     *
+     * @throws NoSuchElementException if the column is empty
+     */
+    public Date max() {
+        if (size == 0) {
+            throw new NoSuchElementException("The column is empty.");
+        }
+        if (sorted) {
+            return Date.ofPacked(values[size - 1]);
+        }
+        int max = values[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return Date.ofPacked(max);
+    }
+
+    /**
+     * Counts the dates between {@code from} and {@code to}, both inclusive. Uses two binary
+     * searches on a sorted column and a single branch-free scan otherwise.
+     *
+     * @throws NullPointerException if a bound is null
+     */
+    public int countBetween(Date from, Date to) {
+        Objects.requireNonNull(from, "The date is null.");
+        Objects.requireNonNull(to, "The date is null.");
+        if (!from.isPackable() || from.compareTo(to) > 0) {
+            return 0;
+        }
+        int low = from.toPacked();
+        int high = to.isPackable() ? to.toPacked() : Integer.MAX_VALUE;
+        if (sorted) {
+            return upperBound(high) - lowerBound(low);
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int value = values[i];
+            count += (value >= low ? 1 : 0) & (value <= high ? 1 : 0);
+        }
+        return count;
+    }
+
+    /**
+     * Returns a copy of the packed dates, in column order.
+     */
+    public int[] toPackedArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Removes every date, keeping the storage for reuse.
+     */
+    public void clear() {
+        size = 0;
+        sorted = true;
+    }
+
+    /**
+     * Shrinks the storage to the current size.
+     */
+    public void trimToSize() {
+        if (values.length > size) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * Returns the backing array, valid up to {@link #size()}, for bulk readers in this package.
+     */
+    int[] packedValues() {
+        return values;
+    }
+
+    /**
+     * Appends the next {@code count} packed dates of {@code src} with one bulk copy.
+     *
+     * @throws IllegalArgumentException if a value does not encode a valid date;
+     * the column is then left unchanged, but src has been read
+     */
+    void addAllPacked(IntBuffer src, int count) {
+        ensureCapacity(size + count);
+        src.get(values, size, count);
+        int end = size + count;
+        for (int i = size; i < end; i++) {
+            checkPacked(values[i]);
+        }
+        for (int i = Math.max(size, 1); i < end && sorted; i++) {
+            sorted = values[i - 1] <= values[i];
+        }
+        size = end;
+    }
+
+    private int lowerBound(int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void append(int packed) {
+        if (sorted && size > 0 && values[size - 1] > packed) {
+            sorted = false;
+        }
+        values[size++] = packed;
+    }
+
+    private void appendAll(int[] packed, int offset, int length) {
+        ensureCapacity(size + length);
+        for (int i = offset; i < offset + length; i++) {
+            append(packed[i]);
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required < 0) {
+            throw new OutOfMemoryError("Column too large.");
+        }
+        if (required > values.length) {
+            int grown = values.length + (values.length >> 1) + 1;
+            values = Arrays.copyOf(values, grown < 0 ? Integer.MAX_VALUE - 8 : Math.max(grown, required));
+        }
+    }
+
+    private static void checkPacked(int packed) {
+        if (!Date.isValidPacked(packed)) {
+            throw new IllegalArgumentException("Invalid date provided.");
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Multiset of {@link DateRange} intervals answering overlap queries in O(log n + k log(n / k))
+ * expected time for k results. Intervals live in a treap ordered by start then end, each node also
+ * holding the latest end of its subtree so that subtrees ending before a query are skipped; the
+ * ancestors of the results are visited too, hence the log factor when results are spread through
+ * the tree, and O(log n + k) when they are adjacent in start order. Nodes are immutable: a change copies
+ * the O(log n) nodes on its path and publishes the new root at once. Readers therefore never lock
+ * and always see a consistent snapshot, while writers are serialized.
+ */
+public final class DateIntervalIndex {
+
+    private static final Comparator<DateRange> ORDER = Comparator.comparingLong(DateRange::startEpochDay)
+            .thenComparingLong(DateRange::endEpochDay);
+
+    private final SplittableRandom random = new SplittableRandom();
+    private volatile Node root;
+
+    /**
+     * Creates an empty index.
+     */
+    public DateIntervalIndex() {
+    }
+
+    /**
+     * Creates an index holding the given intervals, in O(n log n) for the sort and O(n) for the tree.
+     *
+     * @throws NullPointerException if the collection or one of its intervals is null
+     * @throws IllegalArgumentException if an interval is empty
+     */
+    public DateIntervalIndex(Collection<DateRange> intervals) {
+        DateRange[] sorted = intervals.toArray(new DateRange[0]);
+        for (DateRange interval : sorted) {
+            checkInterval(interval);
+        }
+        Arrays.sort(sorted, ORDER);
+        this.root = build(sorted);
+    }
+
+    /**
+     * Returns the number of intervals in the index.
+     */
+    public int size() {
+        return Node.size(root);
+    }
+
+    /**
+     * Returns true if the index holds no interval.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Adds an interval; an interval already present is added once more.
+     *
+     * @throws NullPointerException if interval is null
+     * @throws IllegalArgumentException if the interval is empty
+     */
+    public synchronized void insert(DateRange interval) {
+        checkInterval(interval);
+        Node[] parts = split(root, interval, false);
+        Node single = new Node(interval, random.nextInt(), null, null);
+        root = merge(merge(parts[0], single), parts[1]);
+    }
+
+    /**
+     * Removes one occurrence of an interval.
+     *
+     * @return true if the interval was present
+     * @throws NullPointerException if interval is null
+     */
+    public synchronized boolean remove(DateRange interval) {
+        Objects.requireNonNull(interval, "The interval is null.");
+        Node[] below = split(root, interval, false);
+        Node[] equal = split(below[1], interval, true);
+        if (equal[0] == null) {
+            return false;
+        }
+        Node rest = merge(equal[0].left, equal[0].right);
+        root = merge(merge(below[0], rest), equal[1]);
+        return true;
+    }
+
+    /**
+     * Removes every interval.
+     */
+    public synchronized void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns true if some interval of the index shares a day with the query, in O(log n).
+     *
+     * @throws NullPointerException if query is null
+     */
+    public boolean overlapsAny(DateRange query) {
+        Objects.requireNonNull(query, "The interval is null.");
+        long start = query.startEpochDay();
+        long end = query.endEpochDay();
+        Node node = root;
+        while (node != null && start < end) {
+            if (node.start < end && start < node.end) {
+                return true;
+            }
+            // If the left subtree reaches the query but holds no overlap, every interval of it
+            // starts after the query, and so does every interval on the right.
+            node = node.left != null && node.left.maxEnd > start ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the intervals sharing a day with the query, ordered by start then end.
+     *
+     * @throws NullPointerException if query is null
+     */
+    public List<DateRange> overlapping(DateRange query) {
+        List<DateRange> result = new ArrayList<>();
+        forEachOverlapping(query, result::add);
+        return result;
+    }
+
+    /**
+     * Passes the intervals sharing a day with the query to the action, ordered by start then end.
+     *
+     * @throws NullPointerException if query or action is null
+     */
+    public void forEachOverlapping(DateRange query, Consumer<? super DateRange> action) {
+        visitOverlapping(query, action);
+    }
+
+    /**
+     * Same as {@link #forEachOverlapping}, returning the number of nodes visited.
+     */
+    int visitOverlapping(DateRange query, Consumer<? super DateRange> action) {
+        Objects.requireNonNull(query, "The interval is null.");
+        Objects.requireNonNull(action);
+        if (query.isEmpty()) {
+            return 0;
+        }
+        return collect(root, query.startEpochDay(), query.endEpochDay(), action);
+    }
+
+    private static int collect(Node node, long start, long end, Consumer<? super DateRange> action) {
+        int visited = 0;
+        while (node != null && node.maxEnd > start) {
+            visited++;
+            visited += collect(node.left, start, end, action);
+            if (node.start >= end) {
+                break;
+            }
+            if (node.end > start) {
+                action.accept(node.interval);
+            }
+            node = node.right;
+        }
+        return visited;
+    }
+
+    private static void checkInterval(DateRange interval) {
+        Objects.requireNonNull(interval, "The interval is null.");
+        if (interval.isEmpty()) {
+            throw new IllegalArgumentException("The interval is empty.");
+        }
+    }
+
+    /**
+     * Splits a tree into the nodes ordered before the key and the others, or, if {@code inclusive},
+     * into the nodes ordered before or equal to the key and the others.
+     */
+    private static Node[] split(Node node, DateRange key, boolean inclusive) {
+        if (node == null) {
+            return new Node[2];
+        }
+        int order = ORDER.compare(node.interval, key);
+        if (order < 0 || inclusive && order == 0) {
+            Node[] parts = split(node.right, key, inclusive);
+            parts[0] = node.with(node.left, parts[0]);
+            return parts;
+        }
+        Node[] parts = split(node.left, key, inclusive);
+        parts[1] = node.with(parts[1], node.right);
+        return parts;
+    }
+
+    /**
+     * Joins two trees, every node of the first being ordered before every node of the second.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority >= second.priority) {
+            return first.with(first.left, merge(first.right, second));
+        }
+        return second.with(merge(first, second.left), second.right);
+    }
+
+    /**
+     * Builds a treap over sorted intervals as a Cartesian tree of random priorities.
+     */
+    private Node build(DateRange[] sorted) {
+        int n = sorted.length;
+        if (n == 0) {
+            return null;
+        }
+        int[] priorities = new int[n];
+        int[] left = new int[n];
+        int[] right = new int[n];
+        int[] stack = new int[n];
+        int top = 0;
+        for (int i = 0; i < n; i++) {
+            priorities[i] = random.nextInt();
+            left[i] = -1;
+            right[i] = -1;
+            int last = -1;
+            while (top > 0 && priorities[stack[top - 1]] < priorities[i]) {
+                last = stack[--top];
+            }
+            left[i] = last;
+            if (top > 0) {
+                right[stack[top - 1]] = i;
+            }
+            stack[top++] = i;
+        }
+        return build(sorted, priorities, left, right, stack[0]);
+    }
+
+    private static Node build(DateRange[] sorted, int[] priorities, int[] left, int[] right, int i) {
+        Node leftNode = left[i] < 0 ? null : build(sorted, priorities, left, right, left[i]);
+        Node rightNode = right[i] < 0 ? null : build(sorted, priorities, left, right, right[i]);
+        return new Node(sorted[i], priorities[i], leftNode, rightNode);
+    }
+
+    private static final class Node {
+
+        final DateRange interval;
+        final long start;
+        final long end;
+        final int priority;
+        final Node left;
+        final Node right;
+        final long maxEnd;
+        final int size;
+
+        Node(DateRange interval, int priority, Node left, Node right) {
+            this.interval = interval;
+            this.start = interval.startEpochDay();
+            this.end = interval.endEpochDay();
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.maxEnd = Math.max(end, Math.max(maxEnd(left), maxEnd(right)));
+            this.size = 1 + size(left) + size(right);
+        }
+
+        Node with(Node newLeft, Node newRight) {
+            return newLeft == left && newRight == right ? this : new Node(interval, priority, newLeft, newRight);
+        }
+
+        static long maxEnd(Node node) {
+            return node == null ? Long.MIN_VALUE : node.maxEnd;
+        }
+
+        static int size(Node node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package main;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Map from {@link Date} to objects, keyed by the {@link Date#toPacked() packed} date in an
+ * open-addressing table: no entry objects and no {@link Date#hashCode()} calls. Iteration
+ * follows date order. Dates whose year exceeds {@link Date#MAX_PACKED_YEAR} cannot be keys.
+ * Not thread-safe.
+ *
+ * @param <V> Type of the values
+ * @see DateLongMap
+ * @see DateDoubleMap
+ */
+public final class DateKeyedMap<V> extends PackedDateTable {
+
+    private Object[] values;
+
+    /**
+     * Creates an empty map.
+     */
+    public DateKeyedMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map able to hold {@code expectedSize} dates before growing.
+     *
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public DateKeyedMap(int expectedSize) {
+        super(expectedSize);
+        values = new Object[capacity()];
+    }
+
+    /**
+     * Returns the value of the date, or null if absent.
+     *
+     * @throws NullPointerException if date is null
+     */
+    public V get(Date date) {
+        return getOrDefault(date, null);
+    }
+
+    /**
+     * Returns the value of the date, or {@code defaultValue} if absent.
+     *
+     * @throws NullPointerException if date is null
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Date date, V defaultValue) {
+        int slot = slotOf(date);
+        return slot < 0 ? defaultValue : (V) values[slot];
+    }
+
+    /**
+     * Associates the value with the date.
+     *
+     * @return the former value of the date, or null if absent
+     * @throws NullPointerException if date is null
+     * @throws IllegalArgumentException if its year exceeds {@link Date#MAX_PACKED_YEAR}
+     */
+    @SuppressWarnings("unchecked")
+    public V put(Date date, V value) {
+        int slot = claim(date);
+        if (slot < 0) {
+            values[~slot] = value;
+            return null;
+        }
+        V previous = (V) values[slot];
+        values[slot] = value;
+        return previous;
+    }
+
+    /**
+     * Removes the date.
+     *
+     * @return the former value of the date, or null if absent
+     * @throws NullPointerException if date is null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(Date date) {
+        int slot = slotOf(date);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        free(slot);
+        return previous;
+    }
+
+    /**
+     * Passes every entry to the action in ascending date order.
+     */
+    public void forEach(BiConsumer<? super Date, ? super V> action) {
+        forEachInRange(new Date(1, 1, 1), new Date(31, 12, Date.MAX_PACKED_YEAR), action);
+    }
+
+    /**
+     * Passes the entries between {@code from} and {@code to}, both inclusive,
+     * to the action in ascending date order.
+     *
+     * @throws NullPointerException if a bound or the action is null
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachInRange(Date from, Date to, BiConsumer<? super Date, ? super V> action) {
+        for (int packed : sortedKeys(from, to)) {
+            int slot = find(packed);
+            if (slot >= 0) {
+                action.accept(Date.ofPacked(packed), (V) values[slot]);
+            }
+        }
+    }
+
+    @Override
+    Object swapValues(int capacity) {
+        Object[] old = values;
+        values = new Object[capacity];
+        return old;
+    }
+
+    @Override
+    void copyValue(Object oldValues, int from, int to) {
+        values[to] = ((Object[]) oldValues)[from];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        values[slot] = null;
+    }
+
+    @Override
+    void clearValues() {
+        Arrays.fill(values, null);
+    }
+}
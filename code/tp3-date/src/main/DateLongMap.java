@@ -0,0 +1,155 @@
+package main;
+
+import java.util.Arrays;
+
+/**
+ * Map from {@link Date} to primitive longs, the unboxed counterpart of {@link DateKeyedMap}.
+ * Absent dates read as 0, so that counters can be bumped with {@link #addTo(Date, long)}
+ * without a lookup first. Not thread-safe.
+ */
+public final class DateLongMap extends PackedDateTable {
+
+    /**
+     * Receives the entries of a {@link DateLongMap}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(Date date, long value);
+    }
+
+    private long[] values;
+
+    /**
+     * Creates an empty map.
+     */
+    public DateLongMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map able to hold {@code expectedSize} dates before growing.
+     *
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public DateLongMap(int expectedSize) {
+        super(expectedSize);
+        values = new long[capacity()];
+    }
+
+    /**
+     * Returns the value of the date, or 0 if absent.
+     *
+     * @throws NullPointerException if date is null
+     */
+    public long get(Date date) {
+        return getOrDefault(date, 0);
+    }
+
+    /**
+     * Returns the value of the date, or {@code defaultValue} if absent.
+     *
+     * @throws NullPointerException if date is null
+     */
+    public long getOrDefault(Date date, long defaultValue) {
+        int slot = slotOf(date);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    /**
+     * Associates the value with the date.
+     *
+     * @return the former value of the date, or 0 if absent
+     * @throws NullPointerException if date is null
+     * @throws IllegalArgumentException if its year exceeds {@link Date#MAX_PACKED_YEAR}
+     */
+    public long put(Date date, long value) {
+        int slot = claim(date);
+        if (slot < 0) {
+            values[~slot] = value;
+            return 0;
+        }
+        long previous = values[slot];
+        values[slot] = value;
+        return previous;
+    }
+
+    /**
+     * Adds {@code delta} to the value of the date, an absent date counting as 0.
+     *
+     * @return the new value of the date
+     * @throws NullPointerException if date is null
+     * @throws IllegalArgumentException if its year exceeds {@link Date#MAX_PACKED_YEAR}
+     */
+    public long addTo(Date date, long delta) {
+        int slot = claim(date);
+        if (slot < 0) {
+            return values[~slot] = delta;
+        }
+        return values[slot] += delta;
+    }
+
+    /**
+     * Removes the date.
+     *
+     * @return the former value of the date, or 0 if absent
+     * @throws NullPointerException if date is null
+     */
+    public long remove(Date date) {
+        int slot = slotOf(date);
+        if (slot < 0) {
+            return 0;
+        }
+        long previous = values[slot];
+        free(slot);
+        return previous;
+    }
+
+    /**
+     * Passes every entry to the action in ascending date order.
+     */
+    public void forEach(EntryConsumer action) {
+        forEachInRange(new Date(1, 1, 1), new Date(31, 12, Date.MAX_PACKED_YEAR), action);
+    }
+
+    /**
+     * Passes the entries between {@code from} and {@code to}, both inclusive,
+     * to the action in ascending date order.
+     *
+     * @throws NullPointerException if a bound or the action is null
+     */
+    public void forEachInRange(Date from, Date to, EntryConsumer action) {
+        for (int packed : sortedKeys(from, to)) {
+            int slot = find(packed);
+            if (slot >= 0) {
+                action.accept(Date.ofPacked(packed), values[slot]);
+            }
+        }
+    }
+
+    @Override
+    Object swapValues(int capacity) {
+        long[] old = values;
+        values = new long[capacity];
+        return old;
+    }
+
+    @Override
+    void copyValue(Object oldValues, int from, int to) {
+        values[to] = ((long[]) oldValues)[from];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        values[slot] = 0;
+    }
+
+    @Override
+    void clearValues() {
+        Arrays.fill(values, 0);
+    }
+}
@@ -0,0 +1,289 @@
+package main;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable range of consecutive days, held as epoch days so that its size, membership
+ * and the n-th day are computed in constant time. Its streams split by element count in
+ * constant time, so parallel pipelines over long ranges spread across all cores instead
+ * of walking {@link Date#nextDate()} serially.
+ */
+public final class DateRange implements Iterable<Date> {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED
+            | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+    private final long startEpochDay;
+    private final long endEpochDay; // exclusive
+
+    private DateRange(long startEpochDay, long endEpochDay) {
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay = endEpochDay;
+    }
+
+    /**
+     * Returns the range from {@code first} to {@code last}, both inclusive.
+     *
+     * @throws NullPointerException if a bound is null
+     * @throws IllegalArgumentException if last is before first
+     */
+    public static DateRange closed(Date first, Date last) {
+        Objects.requireNonNull(first, "The range start is null.");
+        Objects.requireNonNull(last, "The range end is null.");
+        if (last.compareTo(first) < 0) {
+            throw new IllegalArgumentException("The range end is before its start.");
+        }
+        return new DateRange(first.toEpochDay(), last.toEpochDay() + 1);
+    }
+
+    /**
+     * Returns the range from {@code first} inclusive to {@code end} exclusive, empty if they are equal.
+     *
+     * @throws NullPointerException if a bound is null
+     * @throws IllegalArgumentException if end is before first
+     */
+    public static DateRange halfOpen(Date first, Date end) {
+        Objects.requireNonNull(first, "The range start is null.");
+        Objects.requireNonNull(end, "The range end is null.");
+        if (end.compareTo(first) < 0) {
+            throw new IllegalArgumentException("The range end is before its start.");
+        }
+        return new DateRange(first.toEpochDay(), end.toEpochDay());
+    }
+
+    /**
+     * Returns the number of days in the range.
+     */
+    public long size() {
+        return endEpochDay - startEpochDay;
+    }
+
+    /**
+     * Returns true if the range holds no day.
+     */
+    public boolean isEmpty() {
+        return endEpochDay == startEpochDay;
+    }
+
+    /**
+     * Returns the first day of the range.
+     *
+     * @throws NoSuchElementException if the range is empty
+     */
+    public Date first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The range is empty.");
+        }
+        return Date.ofEpochDay(startEpochDay);
+    }
+
+    /**
+     * Returns the last day of the range.
+     *
+     * @throws NoSuchElementException if the range is empty
+     */
+    public Date last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The range is empty.");
+        }
+        return Date.ofEpochDay(endEpochDay - 1);
+    }
+
+    /**
+     * Returns the epoch day of the first day of the range.
+     */
+    long startEpochDay() {
+        return startEpochDay;
+    }
+
+    /**
+     * Returns the epoch day following the last day of the range.
+     */
+    long endEpochDay() {
+        return endEpochDay;
+    }
+
+    /**
+     * Returns true if the two ranges share at least one day, which an empty range never does.
+     *
+     * @throws NullPointerException if other is null
+     */
+    public boolean overlaps(DateRange other) {
+        return startEpochDay < other.endEpochDay && other.startEpochDay < endEpochDay
+                && !isEmpty() && !other.isEmpty();
+    }
+
+    /**
+     * Returns true if the date lies in the range, false otherwise or if date is null.
+     */
+    public boolean contains(Date date) {
+        if (date == null) {
+            return false;
+        }
+        long epochDay = date.toEpochDay();
+        return epochDay >= startEpochDay && epochDay < endEpochDay;
+    }
+
+    /**
+     * Returns a sequential stream of every day of the range, in order.
+     * Call {@code parallel()} on it to spread the days across threads.
+     */
+    public Stream<Date> stream() {
+        return stepDays(1);
+    }
+
+    /**
+     * Returns a sequential stream of the first day of the range and every
+     * {@code days}-th day after it that still lies in the range.
+     *
+     * @throws IllegalArgumentException if days is not positive
+     */
+    public Stream<Date> stepDays(long days) {
+        if (days < 1) {
+            throw new IllegalArgumentException("The step must be positive.");
+        }
+        long count = isEmpty() ? 0 : (size() - 1) / days + 1;
+        return StreamSupport.stream(new StepSpliterator(origin(count), days, false, 0, count), false);
+    }
+
+    /**
+     * Returns a sequential stream of the first day of the range and the same day every
+     * {@code months} months after it that still lies in the range, see {@link Date#plusMonths(long)}.
+     *
+     * @throws IllegalArgumentException if months is not positive
+     */
+    public Stream<Date> stepMonths(int months) {
+        if (months < 1) {
+            throw new IllegalArgumentException("The step must be positive.");
+        }
+        long count = 0;
+        if (!isEmpty()) {
+            Date first = first();
+            long steps = (last().monthIndex() - first.monthIndex()) / months;
+            // Clamping to shorter months never moves past the last month, but the kept day may.
+            if (first.plusMonths(steps * months).toEpochDay() >= endEpochDay) {
+                steps--;
+            }
+            count = steps + 1;
+        }
+        return StreamSupport.stream(new StepSpliterator(origin(count), months, true, 0, count), false);
+    }
+
+    private Date origin(long count) {
+        return count == 0 ? null : first();
+    }
+
+    @Override
+    public Iterator<Date> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<Date> spliterator() {
+        return new StepSpliterator(origin(size()), 1, false, 0, size());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        DateRange other = (DateRange) obj;
+        return startEpochDay == other.startEpochDay && endEpochDay == other.endEpochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startEpochDay, endEpochDay);
+    }
+
+    @Override
+    public String toString() {
+        Date start = Date.ofEpochDay(startEpochDay);
+        return isEmpty() ? "[" + start + ", " + start + ")" : "[" + start + ", " + last() + "]";
+    }
+
+    /**
+     * Yields the elements {@code index} to {@code fence - 1} of the sequence
+     * {@code first + i * step} days or months, computing each one directly.
+     */
+    private static final class StepSpliterator implements Spliterator<Date> {
+
+        private final Date first;
+        private final long firstEpochDay;
+        private final long step;
+        private final boolean months;
+        private long index;
+        private final long fence;
+
+        StepSpliterator(Date first, long step, boolean months, long index, long fence) {
+            this.first = first;
+            this.firstEpochDay = first == null ? 0 : first.toEpochDay();
+            this.step = step;
+            this.months = months;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        private Date element(long i) {
+            return months ? first.plusMonths(i * step) : Date.ofEpochDay(firstEpochDay + i * step);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Date> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(element(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Date> action) {
+            Objects.requireNonNull(action);
+            long i = index;
+            index = fence;
+            for (; i < fence; i++) {
+                action.accept(element(i));
+            }
+        }
+
+        @Override
+        public Spliterator<Date> trySplit() {
+            long mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<Date> prefix = new StepSpliterator(first, step, months, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+
+        @Override
+        public Comparator<? super Date> getComparator() {
+            return null;
+        }
+    }
+}
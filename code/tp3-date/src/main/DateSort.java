@@ -0,0 +1,191 @@
+package main;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Sorts of dates that work on {@link Date#toPacked() packed} int keys instead of calling
+ * {@link Date#compareTo(Date)}. Date arrays are sorted by radix, or by
+ * {@link Arrays#parallelSort(long[])} when very large, on their keys paired with their original
+ * positions, then reordered in one pass; the result is the order of {@code compareTo}, and
+ * equal dates keep their relative order.
+ */
+public final class DateSort {
+
+    /** Below this many elements, comparison sorts win over radix passes. */
+    private static final int RADIX_THRESHOLD = 256;
+    /**
+     * From this many elements, a parallel sort is used if more than one core is available.
+     * The {@code main.DateSort.parallelThreshold} system property, read once, overrides it.
+     */
+    private static final int PARALLEL_THRESHOLD = Integer.getInteger("main.DateSort.parallelThreshold", 1 << 21);
+
+    private DateSort() {
+    }
+
+    /**
+     * Sorts the dates in ascending order, stably.
+     *
+     * @throws NullPointerException if the array or one of its dates is null
+     */
+    public static void sort(Date[] dates) {
+        sort(dates, 0, dates.length);
+    }
+
+    /**
+     * Sorts the dates from {@code fromIndex} inclusive to {@code toIndex} exclusive in ascending order, stably.
+     *
+     * @throws NullPointerException if the array or one of the sorted dates is null
+     * @throws IndexOutOfBoundsException if the range lies outside the array
+     */
+    public static void sort(Date[] dates, int fromIndex, int toIndex) {
+        sort(dates, fromIndex, toIndex, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts a range of dates like {@link #sort(Date[], int, int)}, with the given parallel threshold.
+     */
+    static void sort(Date[] dates, int fromIndex, int toIndex, int parallelThreshold) {
+        Objects.checkFromToIndex(fromIndex, toIndex, dates.length);
+        int n = toIndex - fromIndex;
+        if (n < RADIX_THRESHOLD) {
+            Arrays.sort(dates, fromIndex, toIndex);
+            return;
+        }
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            Date date = Objects.requireNonNull(dates[fromIndex + i], "The date is null.");
+            if (!date.isPackable()) {
+                Arrays.sort(dates, fromIndex, toIndex);
+                return;
+            }
+            keys[i] = date.toPacked();
+        }
+        Date[] original = Arrays.copyOfRange(dates, fromIndex, toIndex);
+        if (useParallel(n, parallelThreshold)) {
+            // Positions in the low half make every key distinct, hence the sort stable.
+            long[] keyed = new long[n];
+            for (int i = 0; i < n; i++) {
+                keyed[i] = (long) keys[i] << 32 | i;
+            }
+            Arrays.parallelSort(keyed);
+            for (int i = 0; i < n; i++) {
+                dates[fromIndex + i] = original[(int) keyed[i]];
+            }
+            return;
+        }
+        int[] positions = new int[n];
+        for (int i = 0; i < n; i++) {
+            positions[i] = i;
+        }
+        radixSort(keys, positions);
+        for (int i = 0; i < n; i++) {
+            dates[fromIndex + i] = original[positions[i]];
+        }
+    }
+
+    /**
+     * Sorts the dates of a list in ascending order, stably, like {@link List#sort}.
+     *
+     * @throws NullPointerException if the list or one of its dates is null
+     * @throws UnsupportedOperationException if the list cannot be modified
+     */
+    public static void sort(List<Date> dates) {
+        Date[] array = dates.toArray(new Date[0]);
+        sort(array);
+        ListIterator<Date> iterator = dates.listIterator();
+        for (Date date : array) {
+            iterator.next();
+            iterator.set(date);
+        }
+    }
+
+    /**
+     * Sorts packed dates in ascending order, which is the order of the dates they encode.
+     */
+    public static void sortPacked(int[] packed) {
+        sortPacked(packed, 0, packed.length);
+    }
+
+    /**
+     * Sorts packed dates from {@code fromIndex} inclusive to {@code toIndex} exclusive in ascending order.
+     *
+     * @throws IndexOutOfBoundsException if the range lies outside the array
+     */
+    public static void sortPacked(int[] packed, int fromIndex, int toIndex) {
+        sortPacked(packed, fromIndex, toIndex, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Sorts a range of packed dates like {@link #sortPacked(int[], int, int)}, with the given parallel threshold.
+     */
+    static void sortPacked(int[] packed, int fromIndex, int toIndex, int parallelThreshold) {
+        Objects.checkFromToIndex(fromIndex, toIndex, packed.length);
+        int n = toIndex - fromIndex;
+        if (n < RADIX_THRESHOLD) {
+            Arrays.sort(packed, fromIndex, toIndex);
+        } else if (useParallel(n, parallelThreshold)) {
+            Arrays.parallelSort(packed, fromIndex, toIndex);
+        } else {
+            int[] keys = Arrays.copyOfRange(packed, fromIndex, toIndex);
+            radixSort(keys, null);
+            System.arraycopy(keys, 0, packed, fromIndex, n);
+        }
+    }
+
+    private static boolean useParallel(int n, int parallelThreshold) {
+        return n >= parallelThreshold
+                && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Sorts keys as signed ints by four stable counting passes over their bytes, skipping the
+     * passes where every key has the same byte, and moves {@code payload}, if any, along.
+     */
+    private static void radixSort(int[] keys, int[] payload) {
+        int n = keys.length;
+        int[] src = keys;
+        int[] dst = new int[n];
+        int[] payloadSrc = payload;
+        int[] payloadDst = payload == null ? null : new int[n];
+        int[] counts = new int[256];
+        for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+            // Flipping the sign bit of the top byte orders negative keys first.
+            int flip = shift == 24 ? 0x80 : 0;
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(src[i] >>> shift & 0xFF) ^ flip]++;
+            }
+            if (counts[(src[0] >>> shift & 0xFF) ^ flip] == n) {
+                continue;
+            }
+            for (int digit = 0, start = 0; digit < 256; digit++) {
+                int count = counts[digit];
+                counts[digit] = start;
+                start += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int position = counts[(src[i] >>> shift & 0xFF) ^ flip]++;
+                dst[position] = src[i];
+                if (payloadSrc != null) {
+                    payloadDst[position] = payloadSrc[i];
+                }
+            }
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+            swap = payloadSrc;
+            payloadSrc = payloadDst;
+            payloadDst = swap;
+        }
+        if (src != keys) {
+            System.arraycopy(src, 0, keys, 0, n);
+            if (payload != null) {
+                System.arraycopy(payloadSrc, 0, payload, 0, n);
+            }
+        }
+    }
+}
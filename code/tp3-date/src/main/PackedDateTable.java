@@ -0,0 +1,244 @@
+package main;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Open-addressing key table shared by the date-keyed maps. Keys are {@link Date#toPacked() packed}
+ * dates stored inline in an {@code int[]}, 0 marking a free slot since it never encodes a valid date.
+ * Slots are found by Fibonacci hashing and linear probing, and removal shifts the following run back
+ * instead of leaving tombstones. Subclasses keep their values in a parallel array of the same capacity.
+ */
+abstract class PackedDateTable {
+
+    private static final int FREE = 0;
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] keys;
+    private int size;
+    private int shift;
+    private int resizeAt;
+
+    PackedDateTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative expected size.");
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity < MAX_CAPACITY && expectedSize > capacity / 4 * 3) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Returns the number of dates in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the map holds no date.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if the map holds the date.
+     *
+     * @throws NullPointerException if date is null
+     */
+    public boolean containsKey(Date date) {
+        return slotOf(date) >= 0;
+    }
+
+    /**
+     * Removes every date, keeping the storage for reuse.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        clearValues();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of slots, which is also the length subclass value arrays must have.
+     */
+    final int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the packed dates of the map between {@code from} and {@code to}, both inclusive,
+     * in ascending order. Probes each day of the range when it is shorter than the map,
+     * and scans then sorts the table otherwise.
+     */
+    final int[] sortedKeys(Date from, Date to) {
+        Objects.requireNonNull(from, "The date is null.");
+        Objects.requireNonNull(to, "The date is null.");
+        if (size == 0 || !from.isPackable() || from.compareTo(to) > 0) {
+            return new int[0];
+        }
+        int low = from.toPacked();
+        int high = to.isPackable() ? to.toPacked() : Integer.MAX_VALUE;
+        int[] found = new int[size];
+        int count = 0;
+        if (to.isPackable() && from.daysBetween(to) < size) {
+            for (int packed = low; packed <= high && count < size; packed = nextDay(packed)) {
+                if (find(packed) >= 0) {
+                    found[count++] = packed;
+                }
+            }
+            return Arrays.copyOf(found, count);
+        }
+        for (int key : keys) {
+            if (key != FREE && key >= low && key <= high) {
+                found[count++] = key;
+            }
+        }
+        Arrays.sort(found, 0, count);
+        return Arrays.copyOf(found, count);
+    }
+
+    /**
+     * Returns the slot holding the date, or -1 if absent.
+     */
+    final int slotOf(Date date) {
+        Objects.requireNonNull(date, "The date is null.");
+        return date.isPackable() ? find(date.toPacked()) : -1;
+    }
+
+    /**
+     * Returns the slot holding the packed date, or -1 if absent.
+     */
+    final int find(int packed) {
+        int mask = keys.length - 1;
+        for (int slot = hash(packed); ; slot = slot + 1 & mask) {
+            int key = keys[slot];
+            if (key == packed) {
+                return slot;
+            }
+            if (key == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot holding the date, claiming a free one for it if absent.
+     * A claimed slot holds whatever value its subclass array had, see {@link #clearValue(int)}.
+     *
+     * @return the slot, bitwise complemented if it was just claimed
+     * @throws IllegalArgumentException if its year exceeds {@link Date#MAX_PACKED_YEAR}
+     */
+    final int claim(Date date) {
+        Objects.requireNonNull(date, "The date is null.");
+        int packed = date.toPacked();
+        int mask = keys.length - 1;
+        int slot = hash(packed);
+        for (int key = keys[slot]; key != FREE; key = keys[slot]) {
+            if (key == packed) {
+                return slot;
+            }
+            slot = slot + 1 & mask;
+        }
+        if (size >= resizeAt) {
+            rehash(keys.length << 1);
+            return claim(date);
+        }
+        keys[slot] = packed;
+        size++;
+        return ~slot;
+    }
+
+    /**
+     * Frees a slot, moving back the entries of its probe run that would otherwise become unreachable.
+     */
+    final void free(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int next = gap + 1 & mask; keys[next] != FREE; next = next + 1 & mask) {
+            int home = hash(keys[next]);
+            // Move the entry unless its home lies cyclically in (gap, next].
+            if ((next - home & mask) >= (next - gap & mask)) {
+                keys[gap] = keys[next];
+                moveValue(next, gap);
+                gap = next;
+            }
+        }
+        keys[gap] = FREE;
+        clearValue(gap);
+        size--;
+    }
+
+    /**
+     * Replaces the value array by one of the given capacity and returns the former one.
+     */
+    abstract Object swapValues(int capacity);
+
+    /**
+     * Copies the value at {@code from} of a former value array into slot {@code to}.
+     */
+    abstract void copyValue(Object oldValues, int from, int to);
+
+    /**
+     * Moves the value of slot {@code from} into slot {@code to}.
+     */
+    abstract void moveValue(int from, int to);
+
+    /**
+     * Resets the value of a freed slot.
+     */
+    abstract void clearValue(int slot);
+
+    /**
+     * Resets every value.
+     */
+    abstract void clearValues();
+
+    private int hash(int packed) {
+        return packed * 0x9E3779B9 >>> shift;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        resizeAt = capacity == MAX_CAPACITY ? capacity - 1 : capacity / 4 * 3;
+    }
+
+    private void rehash(int capacity) {
+        if (keys.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Map too large.");
+        }
+        int[] oldKeys = keys;
+        Object oldValues = swapValues(capacity);
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE) {
+                int slot = hash(key);
+                while (keys[slot] != FREE) {
+                    slot = slot + 1 & mask;
+                }
+                keys[slot] = key;
+                copyValue(oldValues, i, slot);
+            }
+        }
+    }
+
+    private static int nextDay(int packed) {
+        int day = packed & 31;
+        int month = packed >>> 5 & 15;
+        int year = packed >>> 9;
+        if (day < Date.daysInMonth(month, year)) {
+            return packed + 1;
+        }
+        if (month < 12) {
+            return year << 9 | (month + 1) << 5 | 1;
+        }
+        return year == Date.MAX_PACKED_YEAR ? Integer.MAX_VALUE : (year + 1) << 9 | 1 << 5 | 1;
+    }
+}
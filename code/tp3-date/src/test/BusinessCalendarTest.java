@@ -0,0 +1,139 @@
+package test;
+
+import main.BusinessCalendar;
+import main.Date;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessCalendarTest {
+
+    private static final List<Date> HOLIDAYS = List.of(new Date(1, 1, 2024), new Date(1, 5, 2024),
+            new Date(14, 7, 2024), new Date(25, 12, 2024), new Date(1, 1, 2025), new Date(1, 1, 1990));
+
+    private static boolean naiveIsBusinessDay(Date date, Set<Date> holidays) {
+        return date.dayOfWeek() < 6 && !holidays.contains(date);
+    }
+
+    private static Date naiveAdd(Date date, int n, Set<Date> holidays) {
+        int step = n > 0 ? 1 : -1;
+        for (int remaining = Math.abs(n); remaining > 0; ) {
+            date = step > 0 ? date.nextDate() : date.previousDate();
+            if (naiveIsBusinessDay(date, holidays)) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+
+    @Test
+    void testIsBusinessDay() {
+        BusinessCalendar calendar = new BusinessCalendar(2023, 2025, HOLIDAYS);
+        assertFalse(calendar.isBusinessDay(new Date(1, 1, 2024)));
+        assertTrue(calendar.isBusinessDay(new Date(2, 1, 2024)));
+        assertFalse(calendar.isBusinessDay(new Date(6, 1, 2024)));
+        assertFalse(calendar.isBusinessDay(new Date(7, 1, 2024)));
+        assertTrue(calendar.isBusinessDay(new Date(31, 12, 2025)));
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> calendar.isBusinessDay(new Date(31, 12, 2022)));
+        assertEquals("Date outside the calendar range.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> calendar.isBusinessDay(new Date(1, 1, 2026)));
+        assertThrows(NullPointerException.class, () -> calendar.isBusinessDay(null));
+    }
+
+    @Test
+    void testMatchesNaiveLoop() {
+        Set<Date> holidays = new HashSet<>(HOLIDAYS);
+        BusinessCalendar calendar = new BusinessCalendar(2018, 2032, HOLIDAYS);
+        Random random = new Random(11);
+        Date base = new Date(1, 1, 2020);
+        for (int i = 0; i < 300; i++) {
+            Date from = base.plusDays(600 + random.nextInt(2500));
+            Date to = base.plusDays(600 + random.nextInt(2500));
+            int n = random.nextInt(1001) - 500;
+
+            assertEquals(naiveIsBusinessDay(from, holidays), calendar.isBusinessDay(from));
+            assertEquals(naiveAdd(from, n, holidays), calendar.addBusinessDays(from, n), from + " + " + n);
+
+            int expected = 0;
+            for (Date date = from; date.compareTo(to) < 0; date = date.nextDate()) {
+                expected += naiveIsBusinessDay(date, holidays) ? 1 : 0;
+            }
+            for (Date date = to; date.compareTo(from) < 0; date = date.nextDate()) {
+                expected -= naiveIsBusinessDay(date, holidays) ? 1 : 0;
+            }
+            assertEquals(expected, calendar.businessDaysBetween(from, to));
+        }
+    }
+
+    @Test
+    void testAddBusinessDays_Edges() {
+        BusinessCalendar calendar = new BusinessCalendar(2024, 2024, HOLIDAYS);
+        assertEquals(new Date(6, 1, 2024), calendar.addBusinessDays(new Date(6, 1, 2024), 0));
+        assertEquals(new Date(8, 1, 2024), calendar.addBusinessDays(new Date(6, 1, 2024), 1));
+        assertEquals(new Date(5, 1, 2024), calendar.addBusinessDays(new Date(6, 1, 2024), -1));
+        assertEquals(new Date(2, 1, 2024), calendar.addBusinessDays(new Date(3, 1, 2024), -1));
+        assertEquals(new Date(31, 12, 2024), calendar.addBusinessDays(new Date(30, 12, 2024), 1));
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> calendar.addBusinessDays(new Date(31, 12, 2024), 1));
+        assertEquals("Result outside the calendar range.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> calendar.addBusinessDays(new Date(2, 1, 2024), -1));
+        assertThrows(IllegalArgumentException.class, () -> calendar.addBusinessDays(new Date(2, 1, 2024), Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> calendar.addBusinessDays(new Date(2, 1, 2024), Integer.MIN_VALUE));
+    }
+
+    @Test
+    void testBusinessDaysInYear() {
+        BusinessCalendar calendar = new BusinessCalendar(2023, 2025, HOLIDAYS);
+        assertEquals(260, calendar.businessDaysInYear(2023));
+        assertEquals(262 - 3, calendar.businessDaysInYear(2024)); // 14/07/2024 is a Sunday
+        assertEquals(261 - 1, calendar.businessDaysInYear(2025));
+        assertEquals(calendar.businessDaysInYear(2024),
+                calendar.businessDaysBetween(new Date(1, 1, 2024), new Date(1, 1, 2025)));
+        assertThrows(IllegalArgumentException.class, () -> calendar.businessDaysInYear(2026));
+    }
+
+    @Test
+    void testBusinessDaysBetween_UpToLastDay() {
+        BusinessCalendar calendar = new BusinessCalendar(2023, 2025, HOLIDAYS);
+        assertEquals(calendar.businessDaysInYear(2025),
+                calendar.businessDaysBetween(new Date(1, 1, 2025), new Date(1, 1, 2026)));
+        assertEquals(1, calendar.businessDaysBetween(new Date(31, 12, 2025), new Date(1, 1, 2026)));
+        assertEquals(-1, calendar.businessDaysBetween(new Date(1, 1, 2026), new Date(31, 12, 2025)));
+        assertEquals(0, calendar.businessDaysBetween(new Date(1, 1, 2026), new Date(1, 1, 2026)));
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> calendar.businessDaysBetween(new Date(1, 1, 2025), new Date(2, 1, 2026)));
+        assertEquals("Date outside the calendar range.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> calendar.isBusinessDay(new Date(1, 1, 2026)));
+        assertThrows(IllegalArgumentException.class, () -> calendar.addBusinessDays(new Date(1, 1, 2026), -1));
+    }
+
+    @Test
+    void testCustomWeekend() {
+        BusinessCalendar calendar = new BusinessCalendar(2024, 2024, List.of(), Set.of(5, 6));
+        assertFalse(calendar.isBusinessDay(new Date(5, 1, 2024)));
+        assertFalse(calendar.isBusinessDay(new Date(6, 1, 2024)));
+        assertTrue(calendar.isBusinessDay(new Date(7, 1, 2024)));
+        assertEquals(new Date(7, 1, 2024), calendar.addBusinessDays(new Date(4, 1, 2024), 1));
+
+        BusinessCalendar noWeekend = new BusinessCalendar(2024, 2024, List.of(), Set.of());
+        assertEquals(366, noWeekend.businessDaysInYear(2024));
+        assertThrows(IllegalArgumentException.class, () -> new BusinessCalendar(2024, 2024, List.of(), Set.of(0)));
+    }
+
+    @Test
+    void testInvalidYears() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new BusinessCalendar(2025, 2024, List.of()));
+        assertEquals("Invalid calendar years provided.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new BusinessCalendar(0, 2024, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new BusinessCalendar(1, Integer.MAX_VALUE, List.of()));
+    }
+}
@@ -0,0 +1,159 @@
+package test;
+
+import main.Date;
+import main.DateCodec;
+import main.DateColumn;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateCodecTest {
+
+    private static Date[] randomDates(int count, long seed) {
+        Random random = new Random(seed);
+        Date[] dates = new Date[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = Date.ofEpochDay(random.nextInt(4_000_000) - 719_162);
+        }
+        return dates;
+    }
+
+    @Test
+    void testRoundTripByteBuffer() {
+        Date[] dates = {new Date(1, 1, 1), new Date(29, 2, 2024), new Date(31, 12, Date.MAX_PACKED_YEAR)};
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            ByteBuffer buffer = ByteBuffer.allocate(dates.length * DateCodec.BYTES).order(order);
+            for (Date date : dates) {
+                DateCodec.encode(date, buffer);
+            }
+            assertEquals(0, buffer.remaining());
+            buffer.flip();
+            assertEquals(0, buffer.get(0));
+            for (Date date : dates) {
+                assertEquals(date, DateCodec.decode(buffer));
+            }
+        }
+    }
+
+    @Test
+    void testRoundTripDataStream() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        DateCodec.encode(new Date(15, 8, 2023), out);
+        DateColumn column = new DateColumn();
+        column.addAll(randomDates(3000, 1));
+        DateCodec.encode(column, out);
+        assertEquals((1 + 3000) * DateCodec.BYTES, bytes.size());
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertSame(Date.of(15, 8, 2023), DateCodec.decode(in));
+        DateColumn decoded = new DateColumn();
+        DateCodec.decode(in, 3000, decoded);
+        assertArrayEquals(column.toPackedArray(), decoded.toPackedArray());
+    }
+
+    @Test
+    void testBulkArrays() {
+        Date[] dates = randomDates(100, 2);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(100 * DateCodec.BYTES);
+        DateCodec.encode(dates, 0, 100, buffer);
+        buffer.flip();
+        Date[] decoded = new Date[102];
+        DateCodec.decode(buffer, decoded, 1, 100);
+        assertArrayEquals(dates, Arrays.copyOfRange(decoded, 1, 101));
+
+        ByteBuffer small = ByteBuffer.allocate(8);
+        assertThrows(BufferOverflowException.class, () -> DateCodec.encode(dates, 0, 3, small));
+        assertEquals(0, small.position());
+        small.limit(4);
+        assertThrows(BufferUnderflowException.class, () -> DateCodec.decode(small, decoded, 0, 2));
+    }
+
+    @Test
+    void testBulkColumn() {
+        DateColumn column = new DateColumn();
+        column.addAll(randomDates(10_000, 3));
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 10_000 * DateCodec.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(7);
+        DateCodec.encode(column, buffer);
+        assertEquals(buffer.capacity(), buffer.position());
+        buffer.flip().position(4);
+        DateColumn decoded = new DateColumn();
+        DateCodec.decode(buffer, 10_000, decoded);
+        assertEquals(0, buffer.remaining());
+        assertArrayEquals(column.toPackedArray(), decoded.toPackedArray());
+        assertFalse(decoded.isSorted());
+    }
+
+    @Test
+    void testDecodeRejectsCorruptBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putInt(new Date(1, 1, 2000).toPacked()).putInt(2023 << 9 | 2 << 5 | 30).flip();
+        DateColumn column = new DateColumn();
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> DateCodec.decode(buffer, 2, column));
+        assertEquals("Invalid date provided.", exception.getMessage());
+        assertEquals(0, column.size());
+        assertThrows(IllegalArgumentException.class, () -> DateCodec.decode(ByteBuffer.allocate(4)));
+    }
+
+    @Test
+    void testByteOrderMatchesDateOrder() {
+        Date[] dates = randomDates(500, 4);
+        byte[][] encoded = new byte[dates.length][DateCodec.BYTES];
+        for (int i = 0; i < dates.length; i++) {
+            DateCodec.encode(dates[i], ByteBuffer.wrap(encoded[i]));
+        }
+        for (int i = 1; i < dates.length; i++) {
+            assertEquals(Integer.signum(dates[i - 1].compareTo(dates[i])),
+                    Integer.signum(Arrays.compareUnsigned(encoded[i - 1], encoded[i])));
+        }
+    }
+
+    @Test
+    void testMappedFileRoundTripAndRangeScan(@TempDir Path dir) throws IOException {
+        DateColumn column = new DateColumn();
+        column.addAll(randomDates(50_000, 5));
+        column.sort();
+        Path file = dir.resolve("dates.bin");
+        DateCodec.write(file, column);
+        assertEquals(50_000L * DateCodec.BYTES, Files.size(file));
+
+        DateColumn read = DateCodec.read(file);
+        assertArrayEquals(column.toPackedArray(), read.toPackedArray());
+        assertTrue(read.isSorted());
+
+        ByteBuffer mapped = ByteBuffer.wrap(Files.readAllBytes(file));
+        Date from = new Date(1, 1, 2000);
+        Date to = new Date(1, 1, 3000);
+        int expected = read.countBetween(from, to.previousDate());
+        assertEquals(expected, DateCodec.lowerBound(mapped, to) - DateCodec.lowerBound(mapped, from));
+        assertEquals(0, DateCodec.lowerBound(mapped, new Date(1, 1, 1)));
+        assertEquals(50_000, DateCodec.lowerBound(mapped, new Date(1, 1, Integer.MAX_VALUE)));
+        assertEquals(0, mapped.position());
+    }
+
+    @Test
+    void testReadRejectsTruncatedFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("truncated.bin");
+        Files.write(file, new byte[]{0, 0, 0, 0, 0});
+        assertThrows(IOException.class, () -> DateCodec.read(file));
+        Path empty = dir.resolve("empty.bin");
+        DateCodec.write(empty, new DateColumn());
+        assertEquals(0, DateCodec.read(empty).size());
+    }
+}
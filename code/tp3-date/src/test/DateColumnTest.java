@@ -0,0 +1,138 @@
+package test;
+
+import main.Date;
+import main.DateColumn;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateColumnTest {
+
+    @Test
+    void testAddAndGet() {
+        DateColumn column = new DateColumn(0);
+        column.add(new Date(15, 8, 2023));
+        column.addPacked(new Date(1, 1, 1850).toPacked());
+        column.addAll(new Date(29, 2, 2024), new Date(31, 12, 9999));
+        column.addAll(List.of(new Date(1, 1, 1)));
+
+        assertEquals(5, column.size());
+        assertEquals(new Date(15, 8, 2023), column.get(0));
+        assertEquals(new Date(1, 1, 1850), column.get(1));
+        assertEquals(new Date(29, 2, 2024), column.get(2));
+        assertEquals(new Date(31, 12, 9999), column.get(3));
+        assertEquals(new Date(1, 1, 1), column.get(4));
+        assertEquals(new Date(1, 1, 1850).toPacked(), column.getPacked(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(-1));
+    }
+
+    @Test
+    void testAddRejectsInvalidValues() {
+        DateColumn column = new DateColumn();
+        assertThrows(NullPointerException.class, () -> column.add(null));
+        assertThrows(IllegalArgumentException.class, () -> column.addPacked(-1));
+        assertThrows(IllegalArgumentException.class, () -> column.add(new Date(1, 1, Date.MAX_PACKED_YEAR + 1)));
+        int[] packed = {new Date(1, 1, 2000).toPacked(), 2023 << 9 | 2 << 5 | 30};
+        assertThrows(IllegalArgumentException.class, () -> column.addAllPacked(packed, 0, 2));
+        assertThrows(NullPointerException.class, () -> column.addAll(new Date(1, 1, 2000), null));
+        assertEquals(0, column.size());
+        column.addAllPacked(packed, 0, 1);
+        assertEquals(1, column.size());
+    }
+
+    @Test
+    void testSortMatchesCompareTo() {
+        Random random = new Random(42);
+        DateColumn column = new DateColumn();
+        List<Date> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Date date = Date.ofEpochDay(random.nextInt(3_000_000) - 719_162);
+            column.add(date);
+            expected.add(date);
+        }
+        assertFalse(column.isSorted());
+        column.sort();
+        assertTrue(column.isSorted());
+        expected.sort(Date::compareTo);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), column.get(i));
+        }
+    }
+
+    @Test
+    void testBinarySearch() {
+        DateColumn column = new DateColumn();
+        column.addAll(new Date(1, 1, 2000), new Date(15, 6, 2010), new Date(31, 12, 2020));
+        assertTrue(column.isSorted());
+        assertEquals(1, column.binarySearch(new Date(15, 6, 2010)));
+        assertEquals(-2, column.binarySearch(new Date(2, 1, 2000)));
+        assertEquals(-1, column.binarySearch(new Date(31, 12, 1999)));
+        assertEquals(-4, column.binarySearch(new Date(1, 1, Date.MAX_PACKED_YEAR + 1)));
+
+        column.add(new Date(1, 1, 1990));
+        Exception exception = assertThrows(IllegalStateException.class,
+                () -> column.binarySearch(new Date(1, 1, 2000)));
+        assertEquals("The column is not sorted.", exception.getMessage());
+    }
+
+    @Test
+    void testMinMax() {
+        DateColumn column = new DateColumn();
+        assertThrows(NoSuchElementException.class, column::min);
+        assertThrows(NoSuchElementException.class, column::max);
+        column.addAll(new Date(15, 8, 2023), new Date(1, 1, 1850), new Date(31, 12, 2100), new Date(2, 1, 1850));
+        assertEquals(new Date(1, 1, 1850), column.min());
+        assertEquals(new Date(31, 12, 2100), column.max());
+        column.sort();
+        assertEquals(new Date(1, 1, 1850), column.min());
+        assertEquals(new Date(31, 12, 2100), column.max());
+    }
+
+    @Test
+    void testCountBetween_SortedAndUnsortedAgree() {
+        Random random = new Random(7);
+        DateColumn column = new DateColumn();
+        for (int i = 0; i < 2000; i++) {
+            column.add(Date.ofEpochDay(random.nextInt(20_000)));
+        }
+        Date from = Date.ofEpochDay(5_000);
+        Date to = Date.ofEpochDay(12_000);
+        int expected = 0;
+        for (int packed : column.toPackedArray()) {
+            Date date = Date.ofPacked(packed);
+            if (date.compareTo(from) >= 0 && date.compareTo(to) <= 0) {
+                expected++;
+            }
+        }
+        assertEquals(expected, column.countBetween(from, to));
+        column.sort();
+        assertEquals(expected, column.countBetween(from, to));
+        assertEquals(0, column.countBetween(to, from));
+        assertEquals(2000, column.countBetween(new Date(1, 1, 1), new Date(1, 1, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    void testAddAllColumnAndClear() {
+        DateColumn source = new DateColumn();
+        source.addAll(new Date(3, 3, 2003), new Date(1, 1, 2001));
+        DateColumn target = new DateColumn(1);
+        target.add(new Date(2, 2, 2002));
+        target.addAll(source);
+        assertArrayEquals(new int[]{new Date(2, 2, 2002).toPacked(), new Date(3, 3, 2003).toPacked(),
+                new Date(1, 1, 2001).toPacked()}, target.toPackedArray());
+        assertFalse(target.isSorted());
+        target.trimToSize();
+        target.clear();
+        assertTrue(target.isEmpty());
+        assertTrue(target.isSorted());
+        target.add(new Date(1, 1, 2001));
+        assertEquals(1, target.size());
+        assertArrayEquals(new int[]{new Date(1, 1, 2001).toPacked()}, target.toPackedArray());
+    }
+}
@@ -0,0 +1,187 @@
+package test;
+
+import main.Date;
+import main.DateIntervalIndex;
+import main.DateRange;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateIntervalIndexTest {
+
+    private static final Date BASE = new Date(1, 1, 2020);
+    private static final Comparator<DateRange> ORDER = Comparator.comparing(DateRange::first)
+            .thenComparing(DateRange::last);
+
+    private static DateRange randomInterval(Random random) {
+        Date first = BASE.plusDays(random.nextInt(3000));
+        return DateRange.closed(first, first.plusDays(random.nextInt(30)));
+    }
+
+    private static List<DateRange> bruteForce(List<DateRange> intervals, DateRange query) {
+        List<DateRange> result = new ArrayList<>();
+        for (DateRange interval : intervals) {
+            if (interval.overlaps(query)) {
+                result.add(interval);
+            }
+        }
+        result.sort(ORDER);
+        return result;
+    }
+
+    @Test
+    void testInsertAndQuery() {
+        DateIntervalIndex index = new DateIntervalIndex();
+        assertTrue(index.isEmpty());
+        DateRange january = DateRange.closed(new Date(1, 1, 2024), new Date(31, 1, 2024));
+        DateRange february = DateRange.closed(new Date(1, 2, 2024), new Date(29, 2, 2024));
+        index.insert(january);
+        index.insert(february);
+        assertEquals(2, index.size());
+
+        assertEquals(List.of(january), index.overlapping(DateRange.closed(new Date(31, 1, 2024), new Date(31, 1, 2024))));
+        assertEquals(List.of(january, february),
+                index.overlapping(DateRange.closed(new Date(31, 1, 2024), new Date(1, 2, 2024))));
+        assertTrue(index.overlapsAny(DateRange.closed(new Date(29, 2, 2024), new Date(5, 3, 2024))));
+        assertFalse(index.overlapsAny(DateRange.closed(new Date(1, 3, 2024), new Date(5, 3, 2024))));
+        assertFalse(index.overlapsAny(DateRange.halfOpen(new Date(15, 1, 2024), new Date(15, 1, 2024))));
+        assertTrue(index.overlapping(DateRange.closed(new Date(1, 12, 2023), new Date(31, 12, 2023))).isEmpty());
+    }
+
+    @Test
+    void testRemoveAndDuplicates() {
+        DateIntervalIndex index = new DateIntervalIndex();
+        DateRange week = DateRange.closed(new Date(1, 1, 2024), new Date(7, 1, 2024));
+        index.insert(week);
+        index.insert(week);
+        assertEquals(2, index.overlapping(week).size());
+        assertTrue(index.remove(DateRange.closed(new Date(1, 1, 2024), new Date(7, 1, 2024))));
+        assertEquals(1, index.size());
+        assertTrue(index.remove(week));
+        assertFalse(index.remove(week));
+        assertTrue(index.isEmpty());
+        assertFalse(index.overlapsAny(week));
+    }
+
+    @Test
+    void testInvalidIntervals() {
+        DateIntervalIndex index = new DateIntervalIndex();
+        DateRange empty = DateRange.halfOpen(new Date(1, 1, 2024), new Date(1, 1, 2024));
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> index.insert(empty));
+        assertEquals("The interval is empty.", exception.getMessage());
+        assertThrows(NullPointerException.class, () -> index.insert(null));
+        assertThrows(NullPointerException.class, () -> index.overlapsAny(null));
+        assertThrows(IllegalArgumentException.class, () -> new DateIntervalIndex(List.of(empty)));
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        Random random = new Random(17);
+        List<DateRange> intervals = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            intervals.add(randomInterval(random));
+        }
+        DateIntervalIndex index = new DateIntervalIndex(intervals);
+        assertEquals(5000, index.size());
+        for (int i = 0; i < 5000; i++) {
+            if (random.nextBoolean()) {
+                DateRange interval = randomInterval(random);
+                intervals.add(interval);
+                index.insert(interval);
+            } else {
+                DateRange interval = intervals.remove(random.nextInt(intervals.size()));
+                assertTrue(index.remove(interval));
+            }
+        }
+        assertEquals(intervals.size(), index.size());
+        for (int i = 0; i < 500; i++) {
+            DateRange query = randomInterval(random);
+            List<DateRange> expected = bruteForce(intervals, query);
+            assertEquals(expected, index.overlapping(query));
+            assertEquals(!expected.isEmpty(), index.overlapsAny(query));
+        }
+        DateRange far = DateRange.closed(new Date(1, 1, 2040), new Date(1, 1, 2041));
+        assertFalse(index.overlapsAny(far));
+    }
+
+    private static int visits(DateIntervalIndex index, DateRange query, List<DateRange> results)
+            throws ReflectiveOperationException {
+        Method method = DateIntervalIndex.class.getDeclaredMethod("visitOverlapping", DateRange.class, Consumer.class);
+        method.setAccessible(true);
+        Consumer<DateRange> collector = results::add;
+        return (int) method.invoke(index, query, collector);
+    }
+
+    private static int log2(int n) {
+        return 32 - Integer.numberOfLeadingZeros(n - 1);
+    }
+
+    @Test
+    void testQueryVisitsAreBounded() throws ReflectiveOperationException {
+        int n = 1 << 16;
+        int k = 16;
+        List<DateRange> intervals = new ArrayList<>();
+        for (int i = 0; i < n - k; i++) {
+            intervals.add(DateRange.closed(BASE.plusDays(2L * i), BASE.plusDays(2L * i)));
+        }
+        for (int i = 0; i < k; i++) {
+            Date first = BASE.plusDays(2L * i * (n / k) + 1);
+            intervals.add(DateRange.closed(first, BASE.plusDays(4L * n)));
+        }
+        DateIntervalIndex index = new DateIntervalIndex(intervals);
+
+        List<DateRange> results = new ArrayList<>();
+        int spread = visits(index, DateRange.closed(BASE.plusDays(3L * n), BASE.plusDays(3L * n)), results);
+        assertEquals(k, results.size());
+        assertTrue(spread <= 4 * (log2(n) + k * log2(n / k)), "visits: " + spread);
+
+        results.clear();
+        int adjacent = visits(index, DateRange.closed(BASE.plusDays(2), BASE.plusDays(2L * k - 1)), results);
+        assertEquals(k, results.size());
+        assertTrue(adjacent <= 4 * (log2(n) + k), "visits: " + adjacent);
+    }
+
+    @Test
+    void testConcurrentReadersSeeSnapshots() throws InterruptedException {
+        DateIntervalIndex index = new DateIntervalIndex();
+        DateRange everything = DateRange.closed(new Date(1, 1, 2000), new Date(31, 12, 2099));
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    int last = 0;
+                    while (!done.get()) {
+                        int seen = index.overlapping(everything).size();
+                        assertTrue(seen >= last, "insert-only index shrank");
+                        last = seen;
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        Random random = new Random(23);
+        for (int i = 0; i < 20_000; i++) {
+            index.insert(randomInterval(random));
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+        assertEquals(20_000, index.overlapping(everything).size());
+    }
+}
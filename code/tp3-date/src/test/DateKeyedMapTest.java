@@ -0,0 +1,136 @@
+package test;
+
+import main.Date;
+import main.DateDoubleMap;
+import main.DateKeyedMap;
+import main.DateLongMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateKeyedMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        DateKeyedMap<String> map = new DateKeyedMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(new Date(15, 8, 2023), "a"));
+        assertEquals("a", map.put(new Date(15, 8, 2023), "b"));
+        assertEquals("b", map.get(new Date(15, 8, 2023)));
+        assertNull(map.get(new Date(16, 8, 2023)));
+        assertEquals("z", map.getOrDefault(new Date(16, 8, 2023), "z"));
+        assertTrue(map.containsKey(new Date(15, 8, 2023)));
+        assertFalse(map.containsKey(new Date(1, 1, Integer.MAX_VALUE)));
+        assertEquals(1, map.size());
+        assertEquals("b", map.remove(new Date(15, 8, 2023)));
+        assertNull(map.remove(new Date(15, 8, 2023)));
+        assertTrue(map.isEmpty());
+
+        assertThrows(NullPointerException.class, () -> map.get(null));
+        assertThrows(IllegalArgumentException.class, () -> map.put(new Date(1, 1, Integer.MAX_VALUE), "x"));
+        assertThrows(IllegalArgumentException.class, () -> new DateKeyedMap<String>(-1));
+    }
+
+    @Test
+    void testMatchesHashMapUnderChurn() {
+        Random random = new Random(3);
+        DateKeyedMap<Integer> map = new DateKeyedMap<>();
+        Map<Date, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            Date date = Date.ofEpochDay(18_000 + random.nextInt(5000));
+            switch (random.nextInt(3)) {
+                case 0, 1 -> assertEquals(expected.put(date, i), map.put(date, i));
+                default -> assertEquals(expected.remove(date), map.remove(date));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (int day = 18_000; day < 23_000; day++) {
+            Date date = Date.ofEpochDay(day);
+            assertEquals(expected.get(date), map.get(date));
+        }
+    }
+
+    @Test
+    void testOrderedIteration() {
+        Random random = new Random(5);
+        DateKeyedMap<Integer> map = new DateKeyedMap<>(4);
+        TreeMap<Date, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 2000; i++) {
+            Date date = Date.ofEpochDay(random.nextInt(100_000));
+            map.put(date, i);
+            expected.put(date, i);
+        }
+        List<Date> keys = new ArrayList<>();
+        List<Integer> values = new ArrayList<>();
+        map.forEach((date, value) -> {
+            keys.add(date);
+            values.add(value);
+        });
+        assertEquals(new ArrayList<>(expected.keySet()), keys);
+        assertEquals(new ArrayList<>(expected.values()), values);
+
+        Date[][] ranges = {{Date.ofEpochDay(10_000), Date.ofEpochDay(10_500)},
+                {Date.ofEpochDay(10_000), Date.ofEpochDay(90_000)},
+                {new Date(1, 1, 1), new Date(1, 1, Integer.MAX_VALUE)},
+                {Date.ofEpochDay(50_000), Date.ofEpochDay(40_000)}};
+        for (Date[] range : ranges) {
+            List<Date> inRange = new ArrayList<>();
+            map.forEachInRange(range[0], range[1], (date, value) -> inRange.add(date));
+            List<Date> expectedRange = range[0].compareTo(range[1]) > 0 ? List.of()
+                    : new ArrayList<>(expected.subMap(range[0], true, range[1], true).keySet());
+            assertEquals(expectedRange, inRange);
+        }
+    }
+
+    @Test
+    void testLongMap() {
+        DateLongMap map = new DateLongMap();
+        Date day = new Date(31, 12, 2023);
+        assertEquals(0, map.get(day));
+        assertEquals(5, map.addTo(day, 5));
+        assertEquals(12, map.addTo(day, 7));
+        assertEquals(12, map.put(day, 1));
+        assertEquals(-1, map.getOrDefault(new Date(1, 1, 2024), -1));
+        for (int i = 0; i < 1000; i++) {
+            map.addTo(day.plusDays(i % 100), 1);
+        }
+        assertEquals(100, map.size());
+        assertEquals(11, map.get(day));
+        long[] total = {0};
+        List<Date> dates = new ArrayList<>();
+        map.forEachInRange(new Date(1, 1, 2024), new Date(10, 1, 2024), (date, value) -> {
+            dates.add(date);
+            total[0] += value;
+        });
+        assertEquals(10, dates.size());
+        assertEquals(new Date(1, 1, 2024), dates.get(0));
+        assertEquals(100, total[0]);
+        assertEquals(11, map.remove(day));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.get(day.plusDays(1)));
+    }
+
+    @Test
+    void testDoubleMap() {
+        DateDoubleMap map = new DateDoubleMap(100);
+        Date day = new Date(29, 2, 2024);
+        assertEquals(0.0, map.get(day));
+        assertEquals(1.5, map.addTo(day, 1.5));
+        assertEquals(2.0, map.addTo(day, 0.5));
+        assertEquals(2.0, map.put(day, 3.25));
+        assertEquals(Double.NaN, map.getOrDefault(new Date(1, 3, 2024), Double.NaN));
+        double[] sum = {0};
+        map.forEach((date, value) -> sum[0] += value);
+        assertEquals(3.25, sum[0]);
+        assertEquals(3.25, map.remove(day));
+        assertEquals(0.0, map.remove(day));
+    }
+}
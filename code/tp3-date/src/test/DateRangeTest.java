@@ -0,0 +1,149 @@
+package test;
+
+import main.Date;
+import main.DateRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateRangeTest {
+
+    @Test
+    void testClosedRange() {
+        DateRange range = DateRange.closed(new Date(28, 2, 2024), new Date(2, 3, 2024));
+        assertEquals(4, range.size());
+        assertFalse(range.isEmpty());
+        assertEquals(new Date(28, 2, 2024), range.first());
+        assertEquals(new Date(2, 3, 2024), range.last());
+        assertEquals(List.of(new Date(28, 2, 2024), new Date(29, 2, 2024), new Date(1, 3, 2024), new Date(2, 3, 2024)),
+                range.stream().collect(Collectors.toList()));
+        assertEquals("[28/02/2024, 02/03/2024]", range.toString());
+    }
+
+    @Test
+    void testHalfOpenRange() {
+        DateRange range = DateRange.halfOpen(new Date(30, 12, 2023), new Date(1, 1, 2024));
+        assertEquals(2, range.size());
+        assertEquals(new Date(31, 12, 2023), range.last());
+        assertEquals(range, DateRange.closed(new Date(30, 12, 2023), new Date(31, 12, 2023)));
+        assertEquals(range.hashCode(), DateRange.closed(new Date(30, 12, 2023), new Date(31, 12, 2023)).hashCode());
+
+        DateRange empty = DateRange.halfOpen(new Date(1, 1, 2024), new Date(1, 1, 2024));
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.size());
+        assertEquals(0, empty.stream().count());
+        assertEquals(0, empty.stepMonths(1).count());
+        assertFalse(empty.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, empty::first);
+        assertEquals("[01/01/2024, 01/01/2024)", empty.toString());
+    }
+
+    @Test
+    void testInvalidBounds() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> DateRange.closed(new Date(2, 1, 2024), new Date(1, 1, 2024)));
+        assertEquals("The range end is before its start.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> DateRange.halfOpen(new Date(2, 1, 2024), new Date(1, 1, 2024)));
+        assertThrows(NullPointerException.class, () -> DateRange.closed(null, new Date(1, 1, 2024)));
+        assertThrows(NullPointerException.class, () -> DateRange.halfOpen(new Date(1, 1, 2024), null));
+    }
+
+    @Test
+    void testContains() {
+        DateRange range = DateRange.halfOpen(new Date(1, 1, 2024), new Date(1, 2, 2024));
+        assertTrue(range.contains(new Date(1, 1, 2024)));
+        assertTrue(range.contains(new Date(31, 1, 2024)));
+        assertFalse(range.contains(new Date(1, 2, 2024)));
+        assertFalse(range.contains(new Date(31, 12, 2023)));
+        assertFalse(range.contains(null));
+    }
+
+    @Test
+    void testStreamMatchesNextDate() {
+        DateRange range = DateRange.closed(new Date(1, 1, 1999), new Date(31, 12, 2001));
+        List<Date> expected = new ArrayList<>();
+        for (Date date = new Date(1, 1, 1999); date.compareTo(new Date(31, 12, 2001)) <= 0; date = date.nextDate()) {
+            expected.add(date);
+        }
+        assertEquals(expected.size(), range.size());
+        assertEquals(expected, range.stream().collect(Collectors.toList()));
+        assertEquals(expected, range.stream().parallel().collect(Collectors.toList()));
+        List<Date> iterated = new ArrayList<>();
+        range.forEach(iterated::add);
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void testParallelStreamOverLongRange() {
+        DateRange range = DateRange.closed(new Date(1, 1, 1), new Date(31, 12, 9999));
+        assertEquals(range.size(), range.stream().parallel().filter(range::contains).count());
+        assertEquals(2424, range.stream().parallel().filter(date -> date.toString().startsWith("29/02")).count());
+    }
+
+    @Test
+    void testSpliteratorSplitsInHalf() {
+        Spliterator<Date> spliterator = DateRange.closed(new Date(1, 1, 2000), new Date(31, 12, 2000)).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+        assertEquals(366, spliterator.estimateSize());
+        Spliterator<Date> prefix = spliterator.trySplit();
+        assertEquals(183, prefix.estimateSize());
+        assertEquals(183, spliterator.estimateSize());
+        assertTrue(prefix.tryAdvance(date -> assertEquals(new Date(1, 1, 2000), date)));
+        assertTrue(spliterator.tryAdvance(date -> assertEquals(new Date(2, 7, 2000), date)));
+        assertNull(spliterator.getComparator());
+    }
+
+    @Test
+    void testStepDays() {
+        DateRange range = DateRange.closed(new Date(1, 1, 2024), new Date(15, 1, 2024));
+        assertEquals(List.of(new Date(1, 1, 2024), new Date(8, 1, 2024), new Date(15, 1, 2024)),
+                range.stepDays(7).collect(Collectors.toList()));
+        assertEquals(List.of(new Date(1, 1, 2024)), range.stepDays(15).collect(Collectors.toList()));
+        assertEquals(2, range.stepDays(10).parallel().count());
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> range.stepDays(0));
+        assertEquals("The step must be positive.", exception.getMessage());
+    }
+
+    @Test
+    void testStepMonths() {
+        DateRange range = DateRange.closed(new Date(31, 1, 2024), new Date(30, 4, 2024));
+        assertEquals(List.of(new Date(31, 1, 2024), new Date(29, 2, 2024), new Date(31, 3, 2024), new Date(30, 4, 2024)),
+                range.stepMonths(1).collect(Collectors.toList()));
+
+        DateRange shorter = DateRange.closed(new Date(15, 1, 2024), new Date(14, 7, 2024));
+        assertEquals(List.of(new Date(15, 1, 2024), new Date(15, 3, 2024), new Date(15, 5, 2024)),
+                shorter.stepMonths(2).collect(Collectors.toList()));
+        assertEquals(List.of(new Date(15, 1, 2024), new Date(15, 4, 2024)),
+                shorter.stepMonths(3).collect(Collectors.toList()));
+
+        DateRange decades = DateRange.closed(new Date(1, 1, 1900), new Date(1, 1, 2100));
+        assertEquals(2401, decades.stepMonths(1).parallel().count());
+        assertThrows(IllegalArgumentException.class, () -> range.stepMonths(-1));
+    }
+
+    @Test
+    void testIterator() {
+        Iterator<Date> iterator = DateRange.closed(new Date(31, 12, 2023), new Date(1, 1, 2024)).iterator();
+        assertEquals(new Date(31, 12, 2023), iterator.next());
+        assertEquals(new Date(1, 1, 2024), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testOverlaps() {
+        DateRange january = DateRange.closed(new Date(1, 1, 2024), new Date(31, 1, 2024));
+        assertTrue(january.overlaps(DateRange.closed(new Date(31, 1, 2024), new Date(5, 2, 2024))));
+        assertTrue(january.overlaps(DateRange.closed(new Date(10, 1, 2024), new Date(11, 1, 2024))));
+        assertFalse(january.overlaps(DateRange.halfOpen(new Date(1, 12, 2023), new Date(1, 1, 2024))));
+        assertFalse(january.overlaps(DateRange.halfOpen(new Date(10, 1, 2024), new Date(10, 1, 2024))));
+        assertThrows(NullPointerException.class, () -> january.overlaps(null));
+    }
+}
@@ -0,0 +1,132 @@
+package test;
+
+import main.Date;
+import main.DateSort;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateSortTest {
+
+    private static Date[] randomDates(int count, int distinctDays, long seed) {
+        Random random = new Random(seed);
+        Date[] dates = new Date[count];
+        for (int i = 0; i < count; i++) {
+            LocalDate day = LocalDate.ofEpochDay(-700_000 + random.nextInt(distinctDays) * 97L);
+            // Distinct instances of equal dates, so that identity reveals stability.
+            dates[i] = new Date(day.getDayOfMonth(), day.getMonthValue(), day.getYear());
+        }
+        return dates;
+    }
+
+    private static void assertSortedLike(Date[] expected, Date[] actual) {
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(expected[i], actual[i], "index " + i);
+        }
+    }
+
+    @Test
+    void testSortMatchesStableComparisonSort() {
+        for (int size : new int[]{0, 1, 10, 255, 256, 10_000, 100_000}) {
+            Date[] dates = randomDates(size, 1 + size / 4, size);
+            Date[] expected = dates.clone();
+            Arrays.sort(expected);
+            DateSort.sort(dates);
+            assertSortedLike(expected, dates);
+        }
+    }
+
+    @Test
+    void testSortRange() {
+        Date[] dates = randomDates(5000, 300, 1);
+        Date[] expected = dates.clone();
+        Arrays.sort(expected, 1000, 4000);
+        DateSort.sort(dates, 1000, 4000);
+        assertSortedLike(expected, dates);
+        assertThrows(IndexOutOfBoundsException.class, () -> DateSort.sort(dates, 4000, 1000));
+    }
+
+    private static void sort(Date[] dates, int parallelThreshold) throws ReflectiveOperationException {
+        Method method = DateSort.class.getDeclaredMethod("sort", Date[].class, int.class, int.class, int.class);
+        method.setAccessible(true);
+        method.invoke(null, dates, 0, dates.length, parallelThreshold);
+    }
+
+    private static void sortPacked(int[] packed, int parallelThreshold) throws ReflectiveOperationException {
+        Method method = DateSort.class.getDeclaredMethod("sortPacked", int[].class, int.class, int.class, int.class);
+        method.setAccessible(true);
+        method.invoke(null, packed, 0, packed.length, parallelThreshold);
+    }
+
+    @Test
+    void testSortLargeInputIsStable() throws ReflectiveOperationException {
+        Date[] dates = randomDates(50_000, 5000, 2);
+        Date[] expected = dates.clone();
+        Arrays.sort(expected);
+        sort(dates, 10_000);
+        assertSortedLike(expected, dates);
+    }
+
+    @Test
+    void testSortYearsBeyondPackedRange() {
+        Date[] dates = randomDates(1000, 100, 3);
+        dates[500] = new Date(1, 1, Integer.MAX_VALUE);
+        dates[10] = new Date(1, 1, Date.MAX_PACKED_YEAR + 1);
+        Date[] expected = dates.clone();
+        Arrays.sort(expected);
+        DateSort.sort(dates);
+        assertSortedLike(expected, dates);
+    }
+
+    @Test
+    void testSortNullElement() {
+        Date[] dates = randomDates(1000, 100, 4);
+        dates[999] = null;
+        assertThrows(NullPointerException.class, () -> DateSort.sort(dates));
+    }
+
+    @Test
+    void testSortList() {
+        List<Date> dates = new ArrayList<>(Arrays.asList(randomDates(3000, 200, 5)));
+        List<Date> expected = new ArrayList<>(dates);
+        expected.sort(Date::compareTo);
+        DateSort.sort(dates);
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), dates.get(i));
+        }
+        assertThrows(UnsupportedOperationException.class, () -> DateSort.sort(List.of(new Date(2, 1, 2024), new Date(1, 1, 2024))));
+    }
+
+    @Test
+    void testSortPacked() throws ReflectiveOperationException {
+        Random random = new Random(6);
+        for (int size : new int[]{0, 100, 5000, 50_000}) {
+            int[] packed = new int[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = Date.ofEpochDay(random.nextInt(5_000_000) - 719_162).toPacked();
+            }
+            int[] expected = packed.clone();
+            Arrays.sort(expected);
+            int[] parallel = packed.clone();
+            DateSort.sortPacked(packed);
+            assertArrayEquals(expected, packed);
+            sortPacked(parallel, 10_000);
+            assertArrayEquals(expected, parallel);
+        }
+        int[] mixed = new int[1000];
+        for (int i = 0; i < mixed.length; i++) {
+            mixed[i] = random.nextInt();
+        }
+        int[] expected = mixed.clone();
+        Arrays.sort(expected, 100, 900);
+        DateSort.sortPacked(mixed, 100, 900);
+        assertArrayEquals(expected, mixed);
+    }
+}
@@ -3,6 +3,12 @@ package test;
 import main.Date;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DateTest {
@@ -700,4 +706,346 @@ class DateTest {
         Date date2 = new Date(31, 12, 2023);
         assertNotEquals(date1.hashCode(), date2.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testToEpochDay_UnixEpoch() {
+        assertEquals(0, new Date(1, 1, 1970).toEpochDay());
+        assertEquals(-1, new Date(31, 12, 1969).toEpochDay());
+        assertEquals(-719162, new Date(1, 1, 1).toEpochDay());
+    }
+
+    @Test
+    void testToEpochDay_MatchesJavaTime() {
+        for (int year : new int[]{1, 4, 100, 400, 1582, 1900, 1970, 2000, 2023, 2024, 2100, 9999}) {
+            for (int month = 1; month <= 12; month++) {
+                for (int day : new int[]{1, 15, 28}) {
+                    long expected = LocalDate.of(year, month, day).toEpochDay();
+                    assertEquals(expected, new Date(day, month, year).toEpochDay());
+                    assertEquals(new Date(day, month, year), Date.ofEpochDay(expected));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testOfEpochDay_RoundTripEveryDay() {
+        Date date = new Date(1, 1, 1999);
+        long first = date.toEpochDay();
+        for (long epochDay = first; epochDay < first + 3000; epochDay++) {
+            assertEquals(date, Date.ofEpochDay(epochDay));
+            assertEquals(epochDay, date.toEpochDay());
+            date = date.nextDate();
+        }
+    }
+
+    @Test
+    void testOfEpochDay_OutOfRange() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> Date.ofEpochDay(-719163));
+        assertEquals("Year out of valid range.", exception.getMessage());
+        assertEquals(new Date(31, 12, Integer.MAX_VALUE), new Date(30, 12, Integer.MAX_VALUE).plusDays(1));
+        assertThrows(IllegalArgumentException.class, () -> new Date(31, 12, Integer.MAX_VALUE).plusDays(1));
+    }
+
+    @Test
+    void testPlusDays_AcrossLeapYear() {
+        assertEquals(new Date(1, 3, 2024), new Date(28, 2, 2024).plusDays(2));
+        assertEquals(new Date(28, 2, 2025), new Date(28, 2, 2024).plusDays(366));
+        assertEquals(new Date(15, 8, 2023), new Date(15, 8, 2023).plusDays(0));
+    }
+
+    @Test
+    void testMinusDays() {
+        assertEquals(new Date(31, 12, 2022), new Date(1, 1, 2023).minusDays(1));
+        assertEquals(new Date(29, 2, 2000), new Date(1, 3, 2000).minusDays(1));
+        assertEquals(new Date(2, 1, 2023), new Date(1, 1, 2023).minusDays(-1));
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new Date(1, 1, 1).minusDays(1));
+        assertEquals("Year out of valid range.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new Date(1, 1, 1).minusDays(Long.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new Date(1, 1, 1).plusDays(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testDaysBetween() {
+        Date start = new Date(1, 1, 2000);
+        Date end = new Date(1, 1, 2001);
+        assertEquals(366, start.daysBetween(end));
+        assertEquals(-366, end.daysBetween(start));
+        assertEquals(0, start.daysBetween(new Date(1, 1, 2000)));
+        Exception exception = assertThrows(NullPointerException.class, () -> start.daysBetween(null));
+        assertEquals("The compared Date is null.", exception.getMessage());
+    }
+
+    @Test
+    void testOf_SharedInstanceInHotRange() {
+        Date date = Date.of(15, 8, 2023);
+        assertSame(date, Date.of(15, 8, 2023));
+        assertEquals(new Date(15, 8, 2023), date);
+        assertSame(Date.of(16, 8, 2023), date.nextDate());
+        assertSame(Date.of(14, 8, 2023), date.previousDate());
+        assertSame(Date.of(1, 1, 2024), Date.of(31, 12, 2023).plusDays(1));
+    }
+
+    @Test
+    void testOf_OutsideHotRange() {
+        Date date = Date.of(15, 8, 1850);
+        assertEquals(new Date(15, 8, 1850), date);
+        assertNotSame(date, Date.of(15, 8, 1850));
+        assertEquals(new Date(16, 8, 1850), date.nextDate());
+    }
+
+    @Test
+    void testOf_InvalidDate() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> Date.of(29, 2, 2023));
+        assertEquals("Invalid date provided.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> Date.of(1, 13, 2023));
+        assertThrows(IllegalArgumentException.class, () -> Date.of(0, 1, 2023));
+    }
+
+    @Test
+    void testFormatTo_MatchesToString() {
+        int[][] fields = {{1, 1, 1}, {9, 9, 999}, {31, 12, 9999}, {1, 1, 10000}, {29, 2, 2024},
+                {31, 12, Integer.MAX_VALUE}};
+        for (int[] field : fields) {
+            Date date = new Date(field[0], field[1], field[2]);
+            String expected = String.format("%02d/%02d/%04d", field[0], field[1], field[2]);
+            assertEquals(expected, date.toString());
+            assertEquals(expected.length(), date.formattedLength());
+            assertEquals("<" + expected, date.formatTo(new StringBuilder("<")).toString());
+
+            char[] chars = new char[expected.length() + 2];
+            assertEquals(expected.length(), date.formatTo(chars, 1));
+            assertEquals(expected, new String(chars, 1, expected.length()));
+
+            byte[] bytes = new byte[expected.length() + 2];
+            assertEquals(expected.length(), date.formatTo(bytes, 2));
+            assertEquals(expected, new String(bytes, 2, expected.length(), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void testFormatTo_DestinationTooSmall() {
+        Date date = new Date(15, 8, 2023);
+        assertThrows(IndexOutOfBoundsException.class, () -> date.formatTo(new char[10], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> date.formatTo(new byte[9], 0));
+    }
+
+    @Test
+    void testParse_RoundTrip() {
+        Date[] dates = {new Date(1, 1, 1), new Date(15, 8, 2023), new Date(29, 2, 2024),
+                new Date(1, 1, 10000), new Date(31, 12, Integer.MAX_VALUE)};
+        for (Date date : dates) {
+            String text = date.toString();
+            assertEquals(date, Date.parse(text));
+            assertEquals(date, Date.parse("[" + text + "]", 1, text.length() + 1));
+            byte[] bytes = ("x" + text).getBytes(StandardCharsets.US_ASCII);
+            assertEquals(date, Date.parse(bytes, 1, text.length()));
+        }
+        assertSame(Date.of(15, 8, 2023), Date.parse("15/08/2023"));
+    }
+
+    @Test
+    void testParse_Malformed() {
+        String[] inputs = {"", "1/08/2023", "15-08-2023", "15/8/2023", "15/08/23", "15/08/2O23",
+                "+5/08/2023", "15/08/ 2023", "15/08/20231234567"};
+        for (String input : inputs) {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> Date.parse(input));
+            assertEquals("Invalid date format.", exception.getMessage());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> Date.parse("15-08-2023".getBytes(StandardCharsets.US_ASCII), 0, 10));
+    }
+
+    @Test
+    void testParse_InvalidDate() {
+        String[] inputs = {"29/02/2023", "00/01/2023", "31/04/2023", "01/13/2023", "01/01/0000", "01/01/2147483648"};
+        for (String input : inputs) {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> Date.parse(input));
+            assertEquals("Invalid date provided.", exception.getMessage());
+        }
+    }
+
+    @Test
+    void testParse_RangeOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Date.parse("15/08/2023", 1, 11));
+        assertThrows(IndexOutOfBoundsException.class, () -> Date.parse(new byte[10], 2, 10));
+    }
+
+    @Test
+    void testToPacked_OrderMatchesCompareTo() {
+        Date[] dates = {new Date(1, 1, 1), new Date(31, 12, 1999), new Date(1, 1, 2000), new Date(29, 2, 2024),
+                new Date(1, 3, 2024), new Date(31, 12, Date.MAX_PACKED_YEAR)};
+        for (Date a : dates) {
+            assertEquals(a, Date.ofPacked(a.toPacked()));
+            for (Date b : dates) {
+                assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(Integer.compare(a.toPacked(), b.toPacked())));
+            }
+        }
+        assertSame(Date.of(15, 8, 2023), Date.ofPacked(new Date(15, 8, 2023).toPacked()));
+    }
+
+    @Test
+    void testToPacked_YearOutOfRange() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new Date(1, 1, Date.MAX_PACKED_YEAR + 1).toPacked());
+        assertEquals("Year out of valid range.", exception.getMessage());
+    }
+
+    @Test
+    void testOfPacked_InvalidValues() {
+        int[] values = {-1, Integer.MIN_VALUE, 0, 2023 << 9 | 13 << 5 | 1, 2023 << 9 | 2 << 5 | 29, 2023 << 9 | 1 << 5};
+        for (int value : values) {
+            assertFalse(Date.isValidPacked(value));
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> Date.ofPacked(value));
+            assertEquals("Invalid date provided.", exception.getMessage());
+        }
+        assertTrue(Date.isValidPacked(2024 << 9 | 2 << 5 | 29));
+    }
+
+    @Test
+    void testPlusMonths_MatchesLocalDate() {
+        LocalDate[] starts = {LocalDate.of(2023, 1, 31), LocalDate.of(2024, 2, 29), LocalDate.of(1999, 12, 15),
+                LocalDate.of(1, 1, 1)};
+        for (LocalDate start : starts) {
+            Date date = new Date(start.getDayOfMonth(), start.getMonthValue(), start.getYear());
+            for (int months = 0; months <= 60; months++) {
+                LocalDate expected = start.plusMonths(months);
+                assertEquals(new Date(expected.getDayOfMonth(), expected.getMonthValue(), expected.getYear()),
+                        date.plusMonths(months));
+            }
+        }
+        assertEquals(new Date(28, 2, 2023), new Date(31, 3, 2023).plusMonths(-1));
+        assertEquals(new Date(29, 2, 2020), new Date(29, 2, 2024).plusMonths(-48));
+    }
+
+    @Test
+    void testPlusMonths_OutOfRange() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new Date(1, 12, 1).plusMonths(-12));
+        assertEquals("Year out of valid range.", exception.getMessage());
+        assertEquals(new Date(1, 1, 1), new Date(1, 12, 1).plusMonths(-11));
+        assertThrows(IllegalArgumentException.class, () -> new Date(1, 12, Integer.MAX_VALUE).plusMonths(1));
+        assertThrows(IllegalArgumentException.class, () -> new Date(1, 1, 2000).plusMonths(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new Date(1, 1, 2000).plusMonths(Long.MIN_VALUE));
+    }
+
+    private static boolean referenceIsLeapYear(int year) {
+        return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int referenceDaysInMonth(int month, int year) {
+        return switch (month) {
+            case 2 -> referenceIsLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    @Test
+    void testIsLeapYear_MatchesModuloRules() {
+        for (int year = -10_000; year <= 1_000_000; year++) {
+            assertEquals(referenceIsLeapYear(year), Date.isLeapYear(year), "year " + year);
+        }
+        for (int year = Integer.MAX_VALUE - 10_000; year > 0; year++) {
+            assertEquals(referenceIsLeapYear(year), Date.isLeapYear(year), "year " + year);
+        }
+        assertEquals(referenceIsLeapYear(Integer.MIN_VALUE), Date.isLeapYear(Integer.MIN_VALUE));
+    }
+
+    @Test
+    void testIsValidDate_MatchesReference() {
+        int[] years = {1, 2, 4, 100, 200, 400, 1900, 2000, 2023, 2024, 2100, 2400, 9999, 10_000, 1_000_000,
+                Integer.MAX_VALUE - 3, Integer.MAX_VALUE, 0, -4, Integer.MIN_VALUE};
+        for (int year : years) {
+            for (int month = -1; month <= 14; month++) {
+                for (int day = -1; day <= 33; day++) {
+                    boolean expected = year >= 1 && month >= 1 && month <= 12
+                            && day >= 1 && day <= referenceDaysInMonth(month, year);
+                    assertEquals(expected, Date.isValidDate(day, month, year), day + "/" + month + "/" + year);
+                }
+            }
+        }
+        assertFalse(Date.isValidDate(Integer.MIN_VALUE, 1, 2024));
+        assertFalse(Date.isValidDate(Integer.MAX_VALUE, 1, 2024));
+        assertFalse(Date.isValidDate(1, Integer.MIN_VALUE, 2024));
+    }
+
+    @Test
+    void testDaysInMonthAndYear() {
+        for (int year = 1; year <= 2500; year++) {
+            int total = 0;
+            for (int month = 1; month <= 12; month++) {
+                assertEquals(referenceDaysInMonth(month, year), Date.daysInMonth(month, year));
+                total += Date.daysInMonth(month, year);
+            }
+            assertEquals(total, Date.daysInYear(year));
+        }
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> Date.daysInMonth(13, 2024));
+        assertEquals("Invalid month provided.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> Date.daysInMonth(0, 2024));
+    }
+
+    @Test
+    void testDayOfWeek_MatchesLocalDate() {
+        for (long epochDay = -719_162; epochDay < 3_000_000; epochDay += 13) {
+            assertEquals(LocalDate.ofEpochDay(epochDay).getDayOfWeek().getValue(), Date.ofEpochDay(epochDay).dayOfWeek());
+        }
+        assertEquals(4, new Date(1, 1, 1970).dayOfWeek());
+        assertEquals(1, new Date(1, 1, 1).dayOfWeek());
+        assertEquals(2, new Date(15, 8, 2023).dayOfWeek());
+    }
+
+    @Test
+    void testOfEpochMilliAndSecond_MatchInstant() {
+        Random random = new Random(9);
+        for (int i = 0; i < 20_000; i++) {
+            long epochMilli = Math.floorMod(random.nextLong(), 400_000_000_000_000L) - 60_000_000_000_000L;
+            LocalDate expected = Instant.ofEpochMilli(epochMilli).atOffset(ZoneOffset.UTC).toLocalDate();
+            Date date = new Date(expected.getDayOfMonth(), expected.getMonthValue(), expected.getYear());
+            assertEquals(date, Date.ofEpochMilli(epochMilli));
+            assertEquals(date, Date.ofEpochSecond(Math.floorDiv(epochMilli, 1000)));
+        }
+        assertEquals(new Date(31, 12, 1969), Date.ofEpochMilli(-1));
+        assertEquals(new Date(1, 1, 1970), Date.ofEpochSecond(86_399));
+        assertEquals(new Date(2, 1, 1970), Date.ofEpochSecond(86_400));
+    }
+
+    @Test
+    void testOfEpochMilli_SameDayReusesInstance() {
+        long noon = new Date(15, 8, 1850).toEpochMilli() + 43_200_000;
+        Date first = Date.ofEpochMilli(noon);
+        assertSame(first, Date.ofEpochMilli(noon + 1000));
+        assertSame(first, Date.ofEpochSecond(noon / 1000 - 3600));
+        assertEquals(new Date(16, 8, 1850), Date.ofEpochMilli(noon + 43_200_000));
+        assertSame(Date.of(15, 8, 2023), Date.ofEpochMilli(new Date(15, 8, 2023).toEpochMilli()));
+    }
+
+    @Test
+    void testOfEpochMilli_OtherThreadsKeepTheirOwnDay() throws InterruptedException {
+        long noon = new Date(15, 8, 1850).toEpochMilli() + 43_200_000;
+        Date first = Date.ofEpochMilli(noon);
+        Date[] other = new Date[2];
+        Thread thread = new Thread(() -> {
+            other[0] = Date.ofEpochMilli(noon + 86_400_000);
+            other[1] = Date.ofEpochMilli(noon + 86_400_000);
+        });
+        thread.start();
+        thread.join();
+        assertEquals(new Date(16, 8, 1850), other[0]);
+        assertSame(other[0], other[1]);
+        assertSame(first, Date.ofEpochMilli(noon));
+    }
+
+    @Test
+    void testToEpochMilliAndSecond() {
+        assertEquals(0, new Date(1, 1, 1970).toEpochMilli());
+        assertEquals(-86_400, new Date(31, 12, 1969).toEpochSecond());
+        Date date = new Date(15, 8, 2023);
+        assertEquals(Instant.parse("2023-08-15T00:00:00Z").toEpochMilli(), date.toEpochMilli());
+        assertEquals(date.toEpochMilli() / 1000, date.toEpochSecond());
+        assertEquals(date, Date.ofEpochMilli(date.toEpochMilli()));
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new Date(1, 1, 300_000_000).toEpochMilli());
+        assertEquals("Year out of valid range.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> Date.ofEpochSecond(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> Date.ofEpochMilli(Long.MIN_VALUE));
+    }
+}